@@ -4,16 +4,47 @@ import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import su.nightexpress.excellentenchants.api.enchantment.CustomEnchantment;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class EnchantedItem<T extends CustomEnchantment> {
 
-    private final ItemStack       itemStack;
-    private final Map<T, Integer> enchants;
+    private static final long ALL_HOLDERS = -1L;
 
+    private final ItemStack           itemStack;
+    private final CustomEnchantment[] enchants;
+    private final int[]               levels;
+    private final long                holderMask;
+
+    /**
+     * @deprecated Use {@link #EnchantedItem(ItemStack, CustomEnchantment[], int[], long)} instead.
+     */
+    @Deprecated
     public EnchantedItem(@NotNull ItemStack itemStack, @NotNull Map<T, Integer> enchants) {
+        this.itemStack = itemStack;
+        this.enchants = new CustomEnchantment[enchants.size()];
+        this.levels = new int[enchants.size()];
+        this.holderMask = ALL_HOLDERS;
+
+        int index = 0;
+        for (Map.Entry<T, Integer> entry : enchants.entrySet()) {
+            this.enchants[index] = entry.getKey();
+            this.levels[index] = entry.getValue();
+            index++;
+        }
+    }
+
+    /**
+     * @param itemStack Item the enchantments were read from.
+     * @param enchants Custom enchantments of the item.
+     * @param levels Levels of the enchantments, at the same indexes.
+     * @param holderMask Bits of enchant holders that have at least one enchantment of this item.
+     */
+    public EnchantedItem(@NotNull ItemStack itemStack, @NotNull CustomEnchantment[] enchants, int[] levels, long holderMask) {
         this.itemStack = itemStack;
         this.enchants = enchants;
+        this.levels = levels;
+        this.holderMask = holderMask;
     }
 
     @NotNull
@@ -21,8 +52,41 @@ public class EnchantedItem<T extends CustomEnchantment> {
         return this.itemStack;
     }
 
+    /**
+     * @deprecated Use {@link #getLevel(CustomEnchantment)} instead, this method creates a new map on each call.
+     */
+    @Deprecated
     @NotNull
+    @SuppressWarnings("unchecked")
     public Map<T, Integer> getEnchants() {
-        return this.enchants;
+        Map<T, Integer> map = new LinkedHashMap<>();
+        for (int index = 0; index < this.enchants.length; index++) {
+            map.put((T) this.enchants[index], this.levels[index]);
+        }
+        return map;
+    }
+
+    public int getLevel(@NotNull CustomEnchantment enchantment) {
+        // Items have just a few enchantments, so linear identity scan is faster than any lookup structure.
+        for (int index = 0; index < this.enchants.length; index++) {
+            if (this.enchants[index] == enchantment) return this.levels[index];
+        }
+        return 0;
+    }
+
+    public boolean contains(@NotNull CustomEnchantment enchantment) {
+        return this.getLevel(enchantment) > 0;
+    }
+
+    public int size() {
+        return this.enchants.length;
+    }
+
+    public long getHolderMask() {
+        return this.holderMask;
+    }
+
+    public boolean hasHolder(long holderBit) {
+        return (this.holderMask & holderBit) != 0L;
     }
 }
@@ -35,6 +35,7 @@ public class EnchantsPlaceholders extends Placeholders {
 
     public static final String TRIGGER_CHANCE   = "%enchantment_trigger_chance%";
     public static final String TIRGGER_INTERVAL = "%enchantment_trigger_interval%";
+    public static final String TRIGGER_COOLDOWN = "%enchantment_trigger_cooldown%";
     public static final String EFFECT_AMPLIFIER = "%enchantment_potion_level%";
     public static final String EFFECT_DURATION  = "%enchantment_potion_duration%";
     public static final String EFFECT_TYPE      = "%enchantment_potion_type%";
@@ -69,6 +70,7 @@ public class EnchantsPlaceholders extends Placeholders {
             .add(ENCHANTMENT_CHARGES_FUEL_ITEM, level -> ItemUtil.getItemNameSerialized(enchantment.getFuel()))
             .add(TRIGGER_CHANCE, level -> NumberUtil.format(enchantment.getComponent(EnchantComponent.PROBABILITY).getTriggerChance(level)))
             .add(TIRGGER_INTERVAL, () -> NumberUtil.format(enchantment.getComponent(EnchantComponent.PERIODIC).getInterval()))
+            .add(TRIGGER_COOLDOWN, level -> NumberUtil.format(enchantment.getComponent(EnchantComponent.COOLDOWN).getDuration(level)))
             .add(EFFECT_AMPLIFIER, level -> NumberUtil.toRoman(enchantment.getComponent(EnchantComponent.POTION_EFFECT).getAmplifier(level)))
             .add(EFFECT_DURATION, level -> NumberUtil.format(enchantment.getComponent(EnchantComponent.POTION_EFFECT).getDuration(level) / 20D))
             .add(EFFECT_TYPE, () -> LangUtil.getSerializedName(enchantment.getComponent(EnchantComponent.POTION_EFFECT).getType()))
@@ -12,6 +12,8 @@ public class Modifier implements Writeable {
     private final double         capacity;
     private final ModifierAction action;
 
+    private double[] table;
+
     public Modifier(double base, double perLevel, double capacity, @NotNull ModifierAction action) {
         this.base = base;
         this.perLevel = perLevel;
@@ -57,7 +59,30 @@ public class Modifier implements Writeable {
         config.set(path + ".Action", this.action.name());
     }
 
+    /**
+     * Precomputes values for levels from 0 to the given max. level, so {@link #getValue(int)} becomes an array read for them.
+     * Levels out of the table are still computed.
+     *
+     * @return This modifier.
+     */
+    @NotNull
+    public Modifier bake(int maxLevel) {
+        double[] table = new double[Math.max(0, maxLevel) + 1];
+        for (int level = 0; level < table.length; level++) {
+            table[level] = this.computeValue(level);
+        }
+        this.table = table;
+        return this;
+    }
+
     public double getValue(int level) {
+        double[] table = this.table;
+        if (table != null && level >= 0 && level < table.length) return table[level];
+
+        return this.computeValue(level);
+    }
+
+    private double computeValue(int level) {
         if (this.perLevel == 0D) return this.base;
 
         //double step = this.step == 0D ? 1D : Math.floor((double) level / this.step);
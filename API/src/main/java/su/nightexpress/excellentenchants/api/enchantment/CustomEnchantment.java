@@ -22,10 +22,19 @@ public interface CustomEnchantment {
 
     void onRegister(@NotNull Enchantment enchantment);
 
+    int getOrdinal();
+
+    void setOrdinal(int ordinal);
+
     <T> boolean hasComponent(@NotNull EnchantComponent<T> type);
 
     @NotNull <T> T getComponent(@NotNull EnchantComponent<T> type);
 
+    /**
+     * @return Bit mask of components this enchantment has, see {@link EnchantComponent#getMask()}.
+     */
+    int getComponentMask();
+
     @NotNull UnaryOperator<String> replacePlaceholders(int level);
 
     @NotNull FileConfig getConfig();
@@ -80,6 +89,8 @@ public interface CustomEnchantment {
 
     void setCharges(@NotNull ItemStack item, int level, int amount);
 
+    void setCharges(@NotNull ItemMeta meta, int level, int amount);
+
     boolean isFullOfCharges(@NotNull ItemStack item);
 
     boolean isOutOfCharges(@NotNull ItemStack item);
@@ -0,0 +1,33 @@
+package su.nightexpress.excellentenchants.api.enchantment.component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Base for enchantment components, assigns component indexes in order of creation.
+ */
+public abstract class AbstractComponent<T> implements EnchantComponent<T> {
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private final int index;
+
+    protected AbstractComponent() {
+        this.index = COUNTER.getAndIncrement();
+        // Components are stored as bits of an int mask.
+        if (this.index >= Integer.SIZE) {
+            throw new IllegalStateException("Too many enchantment components, max. is " + Integer.SIZE + ".");
+        }
+    }
+
+    /**
+     * @return Number of components created so far, component indexes are below this value.
+     */
+    public static int getCount() {
+        return Math.min(COUNTER.get(), Integer.SIZE);
+    }
+
+    @Override
+    public final int getIndex() {
+        return this.index;
+    }
+}
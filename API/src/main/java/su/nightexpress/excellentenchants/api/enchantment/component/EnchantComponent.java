@@ -1,6 +1,7 @@
 package su.nightexpress.excellentenchants.api.enchantment.component;
 
 import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.api.enchantment.CustomEnchantment;
 import su.nightexpress.excellentenchants.api.enchantment.component.impl.*;
 import su.nightexpress.excellentenchants.api.enchantment.meta.*;
 import su.nightexpress.nightcore.config.FileConfig;
@@ -12,8 +13,35 @@ public interface EnchantComponent<T> {
     EnchantComponent<ArrowEffects>  ARROW         = new ArrowComponent();
     EnchantComponent<Period>        PERIODIC      = new PeriodComponent();
     EnchantComponent<Charges>       CHARGES       = new ChargesComponent();
+    EnchantComponent<Cooldown>      COOLDOWN      = new CooldownComponent();
+
+    /**
+     * @return Number of created components, component indexes are below this value.
+     */
+    static int getCount() {
+        return AbstractComponent.getCount();
+    }
+
+    /**
+     * @return Unique index of this component assigned on creation, used to store component data in arrays instead of maps.
+     */
+    int getIndex();
+
+    /**
+     * @return Bit of this component in {@link CustomEnchantment#getComponentMask()}.
+     */
+    default int getMask() {
+        return 1 << this.getIndex();
+    }
 
     @NotNull String getName();
 
     @NotNull T read(@NotNull FileConfig config, @NotNull T defaultValue);
+
+    /**
+     * Precomputes per-level values of the component data up to the enchantment max. level. Called after each read.
+     */
+    default void bake(@NotNull T data, int maxLevel) {
+
+    }
 }
@@ -1,13 +1,13 @@
 package su.nightexpress.excellentenchants.api.enchantment.component.impl;
 
 import org.jetbrains.annotations.NotNull;
-import su.nightexpress.excellentenchants.api.enchantment.component.EnchantComponent;
+import su.nightexpress.excellentenchants.api.enchantment.component.AbstractComponent;
 import su.nightexpress.excellentenchants.api.enchantment.meta.ArrowEffects;
 import su.nightexpress.nightcore.config.ConfigValue;
 import su.nightexpress.nightcore.config.FileConfig;
 import su.nightexpress.nightcore.util.wrapper.UniParticle;
 
-public class ArrowComponent implements EnchantComponent<ArrowEffects> {
+public class ArrowComponent extends AbstractComponent<ArrowEffects> {
 
     @Override
     @NotNull
@@ -3,13 +3,13 @@ package su.nightexpress.excellentenchants.api.enchantment.component.impl;
 import org.jetbrains.annotations.NotNull;
 import su.nightexpress.excellentenchants.api.EnchantsPlaceholders;
 import su.nightexpress.excellentenchants.api.Modifier;
-import su.nightexpress.excellentenchants.api.enchantment.component.EnchantComponent;
+import su.nightexpress.excellentenchants.api.enchantment.component.AbstractComponent;
 import su.nightexpress.excellentenchants.api.enchantment.meta.Charges;
 import su.nightexpress.nightcore.config.ConfigValue;
 import su.nightexpress.nightcore.config.FileConfig;
 import su.nightexpress.nightcore.util.bukkit.NightItem;
 
-public class ChargesComponent implements EnchantComponent<Charges> {
+public class ChargesComponent extends AbstractComponent<Charges> {
 
     @Override
     @NotNull
@@ -48,4 +48,9 @@ public class ChargesComponent implements EnchantComponent<Charges> {
 
         return new Charges(maxAmount, consumeAmount, rechargeAmount, customFuelEnabled, customFuelItem);
     }
+
+    @Override
+    public void bake(@NotNull Charges data, int maxLevel) {
+        data.getMaxAmount().bake(maxLevel);
+    }
 }
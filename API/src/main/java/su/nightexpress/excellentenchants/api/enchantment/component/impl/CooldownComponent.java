@@ -0,0 +1,33 @@
+package su.nightexpress.excellentenchants.api.enchantment.component.impl;
+
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.api.Modifier;
+import su.nightexpress.excellentenchants.api.enchantment.component.AbstractComponent;
+import su.nightexpress.excellentenchants.api.enchantment.meta.Cooldown;
+import su.nightexpress.nightcore.config.FileConfig;
+
+public class CooldownComponent extends AbstractComponent<Cooldown> {
+
+    @Override
+    @NotNull
+    public String getName() {
+        return "cooldown";
+    }
+
+    @Override
+    @NotNull
+    public Cooldown read(@NotNull FileConfig config, @NotNull Cooldown defaultValue) {
+        Modifier duration = Modifier.load(config, "Cooldown.Duration",
+            defaultValue.getDuration(),
+            "Sets per-entity cooldown (in seconds) after the enchantment is triggered.",
+            "Set to 0 to disable."
+        );
+
+        return new Cooldown(duration);
+    }
+
+    @Override
+    public void bake(@NotNull Cooldown data, int maxLevel) {
+        data.bake(maxLevel);
+    }
+}
@@ -3,11 +3,11 @@ package su.nightexpress.excellentenchants.api.enchantment.component.impl;
 import org.bukkit.potion.PotionEffectType;
 import org.jetbrains.annotations.NotNull;
 import su.nightexpress.excellentenchants.api.Modifier;
-import su.nightexpress.excellentenchants.api.enchantment.component.EnchantComponent;
+import su.nightexpress.excellentenchants.api.enchantment.component.AbstractComponent;
 import su.nightexpress.excellentenchants.api.enchantment.meta.PotionEffects;
 import su.nightexpress.nightcore.config.FileConfig;
 
-public class EffectComponent implements EnchantComponent<PotionEffects> {
+public class EffectComponent extends AbstractComponent<PotionEffects> {
 
     @Override
     @NotNull
@@ -25,4 +25,9 @@ public class EffectComponent implements EnchantComponent<PotionEffects> {
 
         return new PotionEffects(effectType, durationMod, amplifierMod, isPassive);
     }
+
+    @Override
+    public void bake(@NotNull PotionEffects data, int maxLevel) {
+        data.bake(maxLevel);
+    }
 }
@@ -1,13 +1,13 @@
 package su.nightexpress.excellentenchants.api.enchantment.component.impl;
 
 import org.jetbrains.annotations.NotNull;
-import su.nightexpress.excellentenchants.api.enchantment.component.EnchantComponent;
+import su.nightexpress.excellentenchants.api.enchantment.component.AbstractComponent;
 import su.nightexpress.excellentenchants.api.enchantment.meta.Period;
 import su.nightexpress.nightcore.config.ConfigValue;
 import su.nightexpress.nightcore.config.FileConfig;
 import su.nightexpress.nightcore.util.TimeUtil;
 
-public class PeriodComponent implements EnchantComponent<Period> {
+public class PeriodComponent extends AbstractComponent<Period> {
 
     @Override
     @NotNull
@@ -26,8 +26,7 @@ public class PeriodComponent implements EnchantComponent<Period> {
 
         long interval = ConfigValue.create("Period.Interval",
             defaultValue.getInterval(),
-            "Only triggers if the age (seconds lived) of the entity is divisible by the given number.",
-            "Should be greater than and divisible by the global 'Tick_Interval' in the main plugin config."
+            "Sets how often (in seconds) the enchantment is triggered for each entity."
         ).read(config);
 
         return new Period(interval);
@@ -2,11 +2,11 @@ package su.nightexpress.excellentenchants.api.enchantment.component.impl;
 
 import org.jetbrains.annotations.NotNull;
 import su.nightexpress.excellentenchants.api.Modifier;
-import su.nightexpress.excellentenchants.api.enchantment.component.EnchantComponent;
+import su.nightexpress.excellentenchants.api.enchantment.component.AbstractComponent;
 import su.nightexpress.excellentenchants.api.enchantment.meta.Probability;
 import su.nightexpress.nightcore.config.FileConfig;
 
-public class ProbabilityComponent implements EnchantComponent<Probability> {
+public class ProbabilityComponent extends AbstractComponent<Probability> {
 
     @Override
     @NotNull
@@ -21,4 +21,9 @@ public class ProbabilityComponent implements EnchantComponent<Probability> {
 
         return new Probability(triggerChance);
     }
+
+    @Override
+    public void bake(@NotNull Probability data, int maxLevel) {
+        data.bake(maxLevel);
+    }
 }
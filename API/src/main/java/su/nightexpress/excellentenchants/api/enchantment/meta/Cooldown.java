@@ -0,0 +1,43 @@
+package su.nightexpress.excellentenchants.api.enchantment.meta;
+
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.api.Modifier;
+
+public class Cooldown {
+
+    private final Modifier duration;
+
+    public Cooldown(@NotNull Modifier duration) {
+        this.duration = duration;
+    }
+
+    @NotNull
+    public static Cooldown none() {
+        return ofSeconds(0, 0);
+    }
+
+    @NotNull
+    public static Cooldown ofSeconds(double base, double perLevel) {
+        return new Cooldown(Modifier.addictive(base).perLevel(perLevel).build());
+    }
+
+    @NotNull
+    public Modifier getDuration() {
+        return this.duration;
+    }
+
+    public void bake(int maxLevel) {
+        this.duration.bake(maxLevel);
+    }
+
+    public double getDuration(int level) {
+        return this.duration.getValue(level);
+    }
+
+    /**
+     * @return Cooldown duration in ticks for the given level, zero or less if there is no cooldown.
+     */
+    public long getTicks(int level) {
+        return (long) (this.getDuration(level) * 20D);
+    }
+}
@@ -14,6 +14,9 @@ public class PotionEffects {
     private final Modifier         amplifier;
     private final boolean          permanent;
 
+    private PotionEffect[] effects;
+    private PotionEffect[] effectsNoParticles;
+
     public PotionEffects(@NotNull PotionEffectType type, @NotNull Modifier duration, @NotNull Modifier amplifier, boolean permanent) {
         this.type = type;
         this.duration = duration;
@@ -92,8 +95,33 @@ public class PotionEffects {
         return (int) this.amplifier.getValue(level);
     }
 
+    /**
+     * Precomputes duration, amplifier and immutable effect instances for levels from 0 to the given max. level.
+     */
+    public void bake(int maxLevel) {
+        this.duration.bake(maxLevel);
+        this.amplifier.bake(maxLevel);
+
+        PotionEffect[] effects = new PotionEffect[Math.max(0, maxLevel) + 1];
+        PotionEffect[] effectsNoParticles = new PotionEffect[effects.length];
+        for (int level = 0; level < effects.length; level++) {
+            effects[level] = this.buildEffect(level, true);
+            effectsNoParticles[level] = this.buildEffect(level, false);
+        }
+        this.effects = effects;
+        this.effectsNoParticles = effectsNoParticles;
+    }
+
     @NotNull
     public PotionEffect createEffect(int level, boolean particles) {
+        PotionEffect[] effects = particles ? this.effects : this.effectsNoParticles;
+        if (effects != null && level >= 0 && level < effects.length) return effects[level];
+
+        return this.buildEffect(level, particles);
+    }
+
+    @NotNull
+    private PotionEffect buildEffect(int level, boolean particles) {
         int duration = this.getDuration(level);
         int amplifier = Math.max(0, this.getAmplifier(level) - 1);
 
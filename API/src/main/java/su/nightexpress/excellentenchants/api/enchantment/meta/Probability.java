@@ -34,6 +34,10 @@ public class Probability {
         return this.triggerChance;
     }
 
+    public void bake(int maxLevel) {
+        this.triggerChance.bake(maxLevel);
+    }
+
     public double getTriggerChance(int level) {
         return this.triggerChance.getValue(level);
     }
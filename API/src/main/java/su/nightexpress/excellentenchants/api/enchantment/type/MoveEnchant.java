@@ -12,4 +12,11 @@ public interface MoveEnchant extends CustomEnchantment {
     boolean onMove(@NotNull PlayerMoveEvent event, @NotNull Player player, @NotNull ItemStack itemStack, int level);
 
     @NotNull EnchantPriority getMovePriority();
+
+    /**
+     * @return False if this enchantment must be triggered on every move, bypassing block and interval coalescing.
+     */
+    default boolean isMoveCoalescable() {
+        return true;
+    }
 }
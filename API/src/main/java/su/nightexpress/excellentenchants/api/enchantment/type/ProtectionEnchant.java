@@ -1,18 +1,32 @@
 package su.nightexpress.excellentenchants.api.enchantment.type;
 
+import org.bukkit.damage.DamageType;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import su.nightexpress.excellentenchants.api.damage.DamageBonus;
 import su.nightexpress.excellentenchants.api.EnchantPriority;
 import su.nightexpress.excellentenchants.api.enchantment.CustomEnchantment;
 
+import java.util.Set;
+
 public interface ProtectionEnchant extends CustomEnchantment {
 
     boolean onProtection(@NotNull EntityDamageEvent event, @NotNull DamageBonus damageBonus, @NotNull LivingEntity entity, @NotNull ItemStack itemStack, int level);
 
     @NotNull DamageBonus getDamageBonus();
 
+    /**
+     * Declares damage types this enchantment reacts to, so other damage can be skipped before dispatch.
+     *
+     * @return Set of handled damage types, or null to receive damage of any type.
+     */
+    @Nullable
+    default Set<DamageType> getProtectionDamageTypes() {
+        return null;
+    }
+
     @NotNull EnchantPriority getProtectionPriority();
 }
@@ -0,0 +1,25 @@
+package su.nightexpress.excellentenchants.bridge;
+
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * Read-only access to item enchantments (stored enchantments for enchanted books).
+ * Implementations must not modify the item and should avoid copying its meta.
+ */
+public interface EnchantReader {
+
+    @NotNull Map<Enchantment, Integer> getEnchantments(@NotNull ItemStack item);
+
+    default int getLevel(@NotNull ItemStack item, @NotNull Enchantment enchantment) {
+        Integer level = this.getEnchantments(item).get(enchantment);
+        return level == null ? 0 : level;
+    }
+
+    default boolean contains(@NotNull ItemStack item, @NotNull Enchantment enchantment) {
+        return this.getLevel(item, enchantment) > 0;
+    }
+}
@@ -6,6 +6,8 @@ import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.jetbrains.annotations.NotNull;
 import su.nightexpress.excellentenchants.api.item.ItemSetRegistry;
+import su.nightexpress.excellentenchants.bridge.paper.PaperEnchantReader;
+import su.nightexpress.excellentenchants.bridge.spigot.SpigotEnchantReader;
 import su.nightexpress.excellentenchants.bridge.spigot.SpigotEnchantsBootstrap;
 import su.nightexpress.excellentenchants.command.BaseCommands;
 import su.nightexpress.excellentenchants.config.Config;
@@ -18,6 +20,7 @@ import su.nightexpress.excellentenchants.hook.impl.PacketEventsHook;
 import su.nightexpress.excellentenchants.hook.impl.PlaceholderHook;
 import su.nightexpress.excellentenchants.hook.impl.ProtocolLibHook;
 import su.nightexpress.excellentenchants.manager.EnchantManager;
+import su.nightexpress.excellentenchants.util.EnchantUtils;
 import su.nightexpress.nightcore.NightPlugin;
 import su.nightexpress.nightcore.commands.command.NightCommand;
 import su.nightexpress.nightcore.config.PluginDetails;
@@ -60,6 +63,8 @@ public class EnchantsPlugin extends NightPlugin {
         if (Version.isSpigot()) {
             new SpigotEnchantsBootstrap().bootstrap(this);
         }
+
+        EnchantUtils.setEnchantReader(Version.isPaper() ? new PaperEnchantReader() : new SpigotEnchantReader());
     }
 
     @Override
@@ -136,6 +141,18 @@ public class EnchantsPlugin extends NightPlugin {
         this.foliaLib.getScheduler().runAtEntity(entity, consumer);
     }
 
+    public boolean isFolia() {
+        return this.foliaLib.isFolia();
+    }
+
+    /**
+     * Check if the entity is owned by the region of the current thread (Folia-compatible).
+     * On Spigot/Paper, this checks for the main thread.
+     */
+    public boolean isOwnedByCurrentRegion(@NotNull Entity entity) {
+        return this.foliaLib.getScheduler().isOwnedByCurrentRegion(entity);
+    }
+
     /**
      * Run a task at a specific location/region (Folia-compatible).
      * On Spigot/Paper, this runs on the main thread.
@@ -0,0 +1,39 @@
+package su.nightexpress.excellentenchants.bridge.paper;
+
+import io.papermc.paper.datacomponent.DataComponentType;
+import io.papermc.paper.datacomponent.DataComponentTypes;
+import io.papermc.paper.datacomponent.item.ItemEnchantments;
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.bridge.EnchantReader;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Reads enchantments straight from item data components, without building a meta copy.
+ */
+public class PaperEnchantReader implements EnchantReader {
+
+    @Override
+    @NotNull
+    public Map<Enchantment, Integer> getEnchantments(@NotNull ItemStack item) {
+        ItemEnchantments enchantments = item.getData(getComponent(item));
+        return enchantments == null ? Collections.emptyMap() : enchantments.enchantments();
+    }
+
+    @Override
+    public int getLevel(@NotNull ItemStack item, @NotNull Enchantment enchantment) {
+        if (item.getType() != Material.ENCHANTED_BOOK) {
+            return item.getEnchantmentLevel(enchantment);
+        }
+        return EnchantReader.super.getLevel(item, enchantment);
+    }
+
+    @NotNull
+    private static DataComponentType.Valued<ItemEnchantments> getComponent(@NotNull ItemStack item) {
+        return item.getType() == Material.ENCHANTED_BOOK ? DataComponentTypes.STORED_ENCHANTMENTS : DataComponentTypes.ENCHANTMENTS;
+    }
+}
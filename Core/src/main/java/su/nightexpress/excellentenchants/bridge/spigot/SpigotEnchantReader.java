@@ -0,0 +1,31 @@
+package su.nightexpress.excellentenchants.bridge.spigot;
+
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.EnchantmentStorageMeta;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.bridge.EnchantReader;
+
+import java.util.Collections;
+import java.util.Map;
+
+public class SpigotEnchantReader implements EnchantReader {
+
+    @Override
+    @NotNull
+    public Map<Enchantment, Integer> getEnchantments(@NotNull ItemStack item) {
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) return Collections.emptyMap();
+
+        return (meta instanceof EnchantmentStorageMeta storageMeta) ? storageMeta.getStoredEnchants() : meta.getEnchants();
+    }
+
+    @Override
+    public int getLevel(@NotNull ItemStack item, @NotNull Enchantment enchantment) {
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) return 0;
+
+        return meta instanceof EnchantmentStorageMeta storageMeta ? storageMeta.getStoredEnchantLevel(enchantment) : meta.getEnchantLevel(enchantment);
+    }
+}
@@ -22,8 +22,7 @@ public class Config {
 
     public static final ConfigValue<Integer> PASSIVE_ENCHANTS_TICK_INTERVAL = ConfigValue.create("Passive_Enchants.Interval",
         1,
-        "Tick interval for passive enchantments (in seconds).",
-        "Passive enchants depends on entity's 'ticksLived' value, changing this value may result in passive enchants not triggered correctly.",
+        "Trigger interval (in seconds) for passive enchantments that have no own 'Period.Interval' setting.",
         "[Default is 1]"
     );
 
@@ -34,6 +33,98 @@ public class Config {
         "[Default is true]"
     );
 
+    public static final ConfigValue<Integer> PASSIVE_ENCHANTS_MOBS_RESCAN_INTERVAL = ConfigValue.create("Passive_Enchants.Mobs_Rescan_Interval",
+        30,
+        "Sets how often (in seconds) loaded mobs are checked for passive enchantments on their equipment.",
+        "Catches mobs that got enchanted equipment after spawn (e.g. from other plugins).",
+        "[*] Spigot only. Paper tracks equipment changes of mobs by events.",
+        "Set to 0 to disable.",
+        "[Default is 30]"
+    );
+
+    public static final ConfigValue<Boolean> PASSIVE_ENCHANTS_LOD_ENABLED = ConfigValue.create("Passive_Enchants.LOD.Enabled",
+        true,
+        "When enabled, passive enchantments of mobs are triggered based on distance to the nearest player:",
+        "- Full rate within the 'Near_Distance'.",
+        "- Reduced rate within the 'Far_Distance'.",
+        "- Not triggered at all beyond the 'Far_Distance' or in worlds without players.",
+        "Players are always affected at full rate.",
+        "[Enable for performance; Disable for better experience]",
+        "[Default is true]"
+    );
+
+    public static final ConfigValue<Double> PASSIVE_ENCHANTS_LOD_NEAR_DISTANCE = ConfigValue.create("Passive_Enchants.LOD.Near_Distance",
+        32D,
+        "Sets distance (in blocks) to the nearest player for mobs to trigger passive enchantments at full rate.",
+        "[Default is 32]"
+    );
+
+    public static final ConfigValue<Double> PASSIVE_ENCHANTS_LOD_FAR_DISTANCE = ConfigValue.create("Passive_Enchants.LOD.Far_Distance",
+        -1D,
+        "Sets distance (in blocks) to the nearest player for mobs to trigger passive enchantments at reduced rate.",
+        "Set to -1 to use world's simulation distance.",
+        "[Default is -1]"
+    );
+
+    public static final ConfigValue<Integer> PASSIVE_ENCHANTS_LOD_REDUCED_RATE = ConfigValue.create("Passive_Enchants.LOD.Reduced_Rate",
+        4,
+        "Sets how many times passive enchantments are skipped at reduced rate.",
+        "For example, 4 means that enchantments are triggered once per 4 intervals.",
+        "[Default is 4]"
+    );
+
+    public static final ConfigValue<Boolean> TICK_BUDGET_ENABLED = ConfigValue.create("Tick_Budget.Enabled",
+        true,
+        "When enabled, passive enchantment triggers are spread over several ticks if they don't fit in the 'Budget' time,",
+        "and repeating enchantment tasks run less often while the server is lagging (see 'MSPT_Threshold').",
+        "[Default is true]"
+    );
+
+    public static final ConfigValue<Long> TICK_BUDGET_NANOS = ConfigValue.create("Tick_Budget.Budget",
+        2_000_000L,
+        "Sets max. time (in nanoseconds) per tick for passive enchantment triggers.",
+        "Triggers that do not fit are carried into the next tick.",
+        "[1 000 000 ns = 1 ms]",
+        "[Default is 2000000]"
+    );
+
+    public static final ConfigValue<Double> TICK_BUDGET_MSPT_THRESHOLD = ConfigValue.create("Tick_Budget.MSPT_Threshold",
+        45D,
+        "When server's average tick time (MSPT) is above this value, intervals of passive enchantments,",
+        "ticked blocks and arrow effects are stretched proportionally.",
+        "[*] Paper only, not available on Folia.",
+        "[Default is 45]"
+    );
+
+    public static final ConfigValue<Integer> TICK_BUDGET_MAX_STRETCH = ConfigValue.create("Tick_Budget.Max_Stretch",
+        4,
+        "Sets max. multiplier for the stretched intervals.",
+        "[Default is 4]"
+    );
+
+    public static final ConfigValue<Integer> TICK_BUDGET_MAX_QUEUED = ConfigValue.create("Tick_Budget.Max_Queued",
+        10000,
+        "Sets max. amount of passive enchantment triggers waiting for the budget.",
+        "When exceeded, the oldest triggers are dropped, they will be queued again on their next period.",
+        "[Default is 10000]"
+    );
+
+    public static final ConfigValue<Boolean> MOVE_ENCHANTS_COALESCE = ConfigValue.create("Move_Enchants.Coalesce",
+        true,
+        "When enabled, move enchantments are triggered only when player enters another block",
+        "or when the 'Min_Interval' has passed since the last trigger, instead of on every tiny position change.",
+        "Enchantments that need every move are not affected.",
+        "[Enable for performance; Disable for better precision]",
+        "[Default is true]"
+    );
+
+    public static final ConfigValue<Long> MOVE_ENCHANTS_MIN_INTERVAL = ConfigValue.create("Move_Enchants.Min_Interval",
+        10L,
+        "Sets how often (in ticks) move enchantments are triggered while player moves within the same block.",
+        "[20 ticks = 1 second]",
+        "[Default is 10]"
+    );
+
 
 
     public static final ConfigValue<Boolean> DESCRIPTION_ENABLED = ConfigValue.create("Description.Enabled",
@@ -74,6 +165,21 @@ public class Config {
         "Sets charges format based on percent of max. charges amount."
     );
 
+    public static final ConfigValue<Boolean> CHARGES_DEFERRED_ENABLED = ConfigValue.create("Charges.Deferred.Enabled",
+        false,
+        "When enabled, charges consumed by mining and attack enchantments are counted in memory",
+        "and written to the item periodically, on inventory open/close, item drop, player quit and death.",
+        "This greatly reduces item updates for frequently triggered enchantments.",
+        "[*] Item descriptions will show the actual amount of charges only after the write.",
+        "[Default is false]"
+    );
+
+    public static final ConfigValue<Integer> CHARGES_DEFERRED_FLUSH_INTERVAL = ConfigValue.create("Charges.Deferred.Flush_Interval",
+        10,
+        "Sets how often (in seconds) deferred charges are written to items.",
+        "[Default is 10]"
+    );
+
     public static final ConfigValue<Boolean> CHARGES_FUEL_IGNORE_META = ConfigValue.create("Charges.Fuel.Ignore_Meta",
         false,
         "Controls if item meta (such as display name, lore, model data, etc.) should be ignored when checks if item is valid fuel.",
@@ -95,4 +201,8 @@ public class Config {
     public static boolean isChargesEnabled() {
         return CHARGES_ENABLED.get();
     }
+
+    public static boolean isChargesDeferred() {
+        return isChargesEnabled() && CHARGES_DEFERRED_ENABLED.get();
+    }
 }
@@ -10,12 +10,14 @@ public class Keys {
     public static NamespacedKey keyLevel;
     public static NamespacedKey entitySpawnReason;
     public static NamespacedKey blockEnchant;
+    public static NamespacedKey itemChargesId;
 
     public static void loadKeys(@NotNull EnchantsPlugin plugin) {
         itemRecharged = new NamespacedKey(plugin, "item.recharged");
         keyLevel = new NamespacedKey(plugin, "list_display_level");
         entitySpawnReason = new NamespacedKey(plugin, "entity.spawn_reason");
         blockEnchant = new NamespacedKey(plugin, "block.enchant");
+        itemChargesId = new NamespacedKey(plugin, "item.charges_id");
     }
 
     public static void clear() {
@@ -23,5 +25,6 @@ public class Keys {
         keyLevel = null;
         entitySpawnReason = null;
         blockEnchant = null;
+        itemChargesId = null;
     }
 }
@@ -1,8 +1,5 @@
 package su.nightexpress.excellentenchants.enchantment;
 
-import org.bukkit.entity.LivingEntity;
-import org.bukkit.inventory.EquipmentSlot;
-import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import su.nightexpress.excellentenchants.api.EnchantPriority;
@@ -20,7 +17,9 @@ public class EnchantHolder<T extends CustomEnchantment> {
     private final boolean                      cacheable;
     private final Map<String, T>               enchants;
 
-    private final Map<UUID, Map<EquipmentSlot, EnchantedItem<T>>> cachedEnchants;
+    private Set<T>        enchantSet;
+    private List<List<T>> dispatchPlan;
+    private long          mask;
 
     private EnchantHolder(@NotNull Class<T> type, @NotNull Function<T, EnchantPriority> priority, boolean cacheable) {
         this.type = type;
@@ -28,7 +27,7 @@ public class EnchantHolder<T extends CustomEnchantment> {
         this.cacheable = cacheable;
 
         this.enchants = new LinkedHashMap<>();
-        this.cachedEnchants = new HashMap<>();
+        this.compileDispatchPlan();
     }
 
     @NotNull
@@ -43,6 +42,7 @@ public class EnchantHolder<T extends CustomEnchantment> {
 
     public void clear() {
         this.enchants.clear();
+        this.compileDispatchPlan();
     }
 
     public boolean isEmpty() {
@@ -54,50 +54,25 @@ public class EnchantHolder<T extends CustomEnchantment> {
         if (enchant == null) return false;
 
         this.enchants.put(enchant.getId(), enchant);
+        this.compileDispatchPlan();
         return true;
     }
 
-    @NotNull
-    public Map<EquipmentSlot, EnchantedItem<T>> getCached(@NotNull LivingEntity entity) {
-        return this.cachedEnchants.getOrDefault(entity.getUniqueId(), Collections.emptyMap());
-    }
-
-    @Nullable
-    public EnchantedItem<T> getCached(@NotNull LivingEntity entity, @NotNull EquipmentSlot slot) {
-        return this.getCached(entity).get(slot);
-    }
-
-    public void updateCache(@NotNull LivingEntity entity, @NotNull EquipmentSlot slot, @NotNull ItemStack itemStack, @NotNull Map<CustomEnchantment, Integer> allEnchants) {
-        if (allEnchants.isEmpty()) {
-            this.removeCache(entity, slot);
-            return;
-        }
-
-        Map<T, Integer> adaptedEnchants = new HashMap<>();
-        allEnchants.forEach((enchantment, level) -> {
-            T adapted = this.getEnchant(enchantment.getId());
-            if (adapted == null) return;
-
-            //EquipmentSlot[] enchantSlots = adapted.getSupportedItems().getSlots();
-            //if (!Lists.contains(enchantSlots, slot)) return;
-
-            adaptedEnchants.put(adapted, level);
-        });
-
-        if (adaptedEnchants.isEmpty()) {
-            this.removeCache(entity, slot);
-            return;
+    /**
+     * Buckets holder enchants by their priority, so dispatch can walk them in a fixed order without sorting per event.
+     */
+    private void compileDispatchPlan() {
+        List<List<T>> plan = new ArrayList<>();
+        for (EnchantPriority priority : EnchantPriority.values()) {
+            List<T> bucket = new ArrayList<>();
+            this.enchants.values().forEach(enchant -> {
+                if (this.getPriority(enchant) == priority) bucket.add(enchant);
+            });
+            if (!bucket.isEmpty()) plan.add(List.copyOf(bucket));
         }
 
-        this.cachedEnchants.computeIfAbsent(entity.getUniqueId(), k -> new HashMap<>()).put(slot, new EnchantedItem<>(itemStack, adaptedEnchants));
-    }
-
-    public void removeCache(@NotNull LivingEntity entity, @NotNull EquipmentSlot slot) {
-        this.getCached(entity).remove(slot);
-    }
-
-    public void clearCache(@NotNull LivingEntity entity) {
-        this.cachedEnchants.remove(entity.getUniqueId());
+        this.dispatchPlan = List.copyOf(plan);
+        this.enchantSet = Collections.unmodifiableSet(new LinkedHashSet<>(this.enchants.values()));
     }
 
     public boolean isCacheable() {
@@ -109,9 +84,20 @@ public class EnchantHolder<T extends CustomEnchantment> {
         return this.priority.apply(enchant);
     }
 
+    /**
+     * @return Enchant buckets sorted from the lowest to the highest priority.
+     */
+    @NotNull
+    public List<List<T>> getDispatchPlan() {
+        return this.dispatchPlan;
+    }
+
+    /**
+     * @return Unmodifiable view of holder enchants, rebuilt when new enchantment is accepted.
+     */
     @NotNull
     public Set<T> getEnchants() {
-        return new HashSet<>(this.enchants.values());
+        return this.enchantSet;
     }
 
     @Nullable
@@ -119,6 +105,11 @@ public class EnchantHolder<T extends CustomEnchantment> {
         return this.enchants.get(LowerCase.INTERNAL.apply(id));
     }
 
+    @Nullable
+    public T getEnchant(@NotNull CustomEnchantment enchantment) {
+        return (EnchantRegistry.getHolderMask(enchantment) & this.mask) != 0L ? this.type.cast(enchantment) : null;
+    }
+
     @Nullable
     private T adapt(@NotNull CustomEnchantment enchantment) {
         return this.type.isAssignableFrom(enchantment.getClass()) ? this.type.cast(enchantment) : null;
@@ -127,4 +118,19 @@ public class EnchantHolder<T extends CustomEnchantment> {
     public boolean contains(@NotNull CustomEnchantment enchantment) {
         return this.enchants.containsKey(enchantment.getId());
     }
+
+    public boolean matches(@NotNull EnchantedItem<?> enchantedItem) {
+        return enchantedItem.hasHolder(this.mask);
+    }
+
+    /**
+     * @return Single bit identifying this holder in {@link EnchantedItem#getHolderMask()}.
+     */
+    public long getMask() {
+        return this.mask;
+    }
+
+    void setMask(long mask) {
+        this.mask = mask;
+    }
 }
@@ -8,35 +8,48 @@ import su.nightexpress.excellentenchants.api.EnchantKeys;
 import su.nightexpress.excellentenchants.api.EnchantPriority;
 import su.nightexpress.excellentenchants.api.enchantment.CustomEnchantment;
 import su.nightexpress.excellentenchants.api.enchantment.type.*;
+import su.nightexpress.nightcore.util.BukkitThing;
 import su.nightexpress.nightcore.util.LowerCase;
+import su.nightexpress.nightcore.util.bridge.RegistryType;
 
 import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 public class EnchantRegistry {
 
-    private static final Map<NamespacedKey, CustomEnchantment> BY_KEY = new HashMap<>();
-    private static final Map<String, CustomEnchantment>        BY_ID  = new HashMap<>();
+    private static final Map<NamespacedKey, CustomEnchantment> BY_KEY     = new HashMap<>();
+    private static final Map<String, CustomEnchantment>        BY_ID      = new HashMap<>();
+    private static final List<CustomEnchantment>               BY_ORDINAL = new ArrayList<>();
+
+    private static final Map<Enchantment, CustomEnchantment> BY_BUKKIT    = new IdentityHashMap<>();
+    private static final Set<Enchantment>                    KNOWN_BUKKIT = Collections.newSetFromMap(new IdentityHashMap<>());
 
     private static final Map<String, EnchantHolder<?>>   HOLDERS   = new HashMap<>();
 
-    public static final EnchantHolder<MiningEnchant>     MINING     = registerHolder("mining", MiningEnchant.class, MiningEnchant::getBreakPriority);
-    public static final EnchantHolder<BlockDropEnchant>  BLOCK_DROP = registerHolder("drop", BlockDropEnchant.class, BlockDropEnchant::getDropPriority);
-    public static final EnchantHolder<BowEnchant>        BOW        = registerHolder("bow", BowEnchant.class, BowEnchant::getShootPriority);
+    private static int    holderCount;
+    private static long[] holderMasks = new long[0];
+
+    private static List<EnchantHolder<?>> holderList          = List.of();
+    private static List<EnchantHolder<?>> cacheableHolderList = List.of();
+    private static Set<CustomEnchantment> registeredSet       = Set.of();
+    private static Set<Enchantment>       registeredBukkitSet = Set.of();
+
+    public static final EnchantHolder<MiningEnchant>     MINING     = registerCachedHolder("mining", MiningEnchant.class, MiningEnchant::getBreakPriority);
+    public static final EnchantHolder<BlockDropEnchant>  BLOCK_DROP = registerCachedHolder("drop", BlockDropEnchant.class, BlockDropEnchant::getDropPriority);
+    public static final EnchantHolder<BowEnchant>        BOW        = registerCachedHolder("bow", BowEnchant.class, BowEnchant::getShootPriority);
     public static final EnchantHolder<ArrowEnchant>      ARROW      = registerHolder("arrow", ArrowEnchant.class, BowEnchant::getShootPriority);
     public static final EnchantHolder<TridentEnchant>    TRIDENT    = registerHolder("trident", TridentEnchant.class, TridentEnchant::getLaunchPriority);
-    public static final EnchantHolder<AttackEnchant>     ATTACK     = registerHolder("attack", AttackEnchant.class, AttackEnchant::getAttackPriority);
+    public static final EnchantHolder<AttackEnchant>     ATTACK     = registerCachedHolder("attack", AttackEnchant.class, AttackEnchant::getAttackPriority);
     public static final EnchantHolder<DefendEnchant>     DEFEND     = registerCachedHolder("defend", DefendEnchant.class, DefendEnchant::getProtectPriority);
     public static final EnchantHolder<ProtectionEnchant> PROTECTION = registerCachedHolder("protection", ProtectionEnchant.class, ProtectionEnchant::getProtectionPriority);
-    public static final EnchantHolder<ContainerEnchant>  CONTAINER  = registerHolder("inventory", ContainerEnchant.class, ContainerEnchant::getClickPriority);
+    public static final EnchantHolder<ContainerEnchant>  CONTAINER  = registerHolder("container", ContainerEnchant.class, ContainerEnchant::getClickPriority);
     public static final EnchantHolder<MoveEnchant>       MOVE       = registerCachedHolder("move", MoveEnchant.class, MoveEnchant::getMovePriority);
-    public static final EnchantHolder<KillEnchant>       KILL       = registerHolder("kill", KillEnchant.class, KillEnchant::getKillPriority);
+    public static final EnchantHolder<KillEnchant>       KILL       = registerCachedHolder("kill", KillEnchant.class, KillEnchant::getKillPriority);
     public static final EnchantHolder<DeathEnchant>      DEATH      = registerCachedHolder("death", DeathEnchant.class, DeathEnchant::getDeathPriority);
     public static final EnchantHolder<ResurrectEnchant>  RESURRECT  = registerCachedHolder("resurrect", ResurrectEnchant.class, ResurrectEnchant::getResurrectPriority);
-    public static final EnchantHolder<FishingEnchant>    FISHING    = registerHolder("fishing", FishingEnchant.class, FishingEnchant::getFishingPriority);
-    public static final EnchantHolder<InteractEnchant>   INTERACT   = registerHolder("interact", InteractEnchant.class, InteractEnchant::getInteractPriority);
+    public static final EnchantHolder<FishingEnchant>    FISHING    = registerCachedHolder("fishing", FishingEnchant.class, FishingEnchant::getFishingPriority);
+    public static final EnchantHolder<InteractEnchant>   INTERACT   = registerCachedHolder("interact", InteractEnchant.class, InteractEnchant::getInteractPriority);
     public static final EnchantHolder<DurabilityEnchant> DURABILITY = registerCachedHolder("durability", DurabilityEnchant.class, DurabilityEnchant::getItemDamagePriority);
 
     public static final EnchantHolder<InventoryEnchant> INVENTORY = registerHolder("inventory", InventoryEnchant.class, e -> EnchantPriority.NORMAL);
@@ -55,10 +68,54 @@ public class EnchantRegistry {
     }
 
     public static void registerEnchant(@NotNull CustomEnchantment enchantment) {
-        getHolders().forEach(holder -> holder.accept(enchantment));
+        if (BY_ID.containsKey(enchantment.getId())) return;
+
+        int ordinal = BY_ORDINAL.size();
+        enchantment.setOrdinal(ordinal);
+        BY_ORDINAL.add(enchantment);
+
+        long mask = 0L;
+        for (EnchantHolder<?> holder : getHolders()) {
+            if (holder.accept(enchantment)) {
+                mask |= holder.getMask();
+            }
+        }
+
+        holderMasks = Arrays.copyOf(holderMasks, ordinal + 1);
+        holderMasks[ordinal] = mask;
 
         BY_KEY.put(EnchantKeys.create(enchantment.getId()), enchantment);
         BY_ID.put(enchantment.getId(), enchantment);
+
+        Enchantment bukkitEnchant = enchantment.getBukkitEnchantment();
+        BY_BUKKIT.put(bukkitEnchant, enchantment);
+        KNOWN_BUKKIT.add(bukkitEnchant);
+
+        publishEnchants();
+        WorldAvailability.refresh();
+    }
+
+    private static void publishEnchants() {
+        Set<CustomEnchantment> enchants = new LinkedHashSet<>(BY_ORDINAL);
+        Set<Enchantment> bukkitEnchants = new LinkedHashSet<>();
+        enchants.forEach(enchantment -> bukkitEnchants.add(enchantment.getBukkitEnchantment()));
+
+        registeredSet = Collections.unmodifiableSet(enchants);
+        registeredBukkitSet = Collections.unmodifiableSet(bukkitEnchants);
+    }
+
+    private static void publishHolders() {
+        List<EnchantHolder<?>> holders = new ArrayList<>(HOLDERS.values());
+
+        holderList = List.copyOf(holders);
+        cacheableHolderList = holders.stream().filter(EnchantHolder::isCacheable).toList();
+    }
+
+    /**
+     * Remembers all server enchantment instances, so lookups of vanilla enchantments are resolved by identity too.
+     */
+    public static void indexBukkitEnchantments() {
+        KNOWN_BUKKIT.addAll(BukkitThing.getAll(RegistryType.ENCHANTMENT));
     }
 
     public static boolean isRegistered(@NotNull String id) {
@@ -81,17 +138,44 @@ public class EnchantRegistry {
 
     @Nullable
     public static CustomEnchantment getByBukkit(@NotNull Enchantment enchantment) {
+        CustomEnchantment custom = BY_BUKKIT.get(enchantment);
+        if (custom != null || KNOWN_BUKKIT.contains(enchantment)) return custom;
+
+        // Instance we haven't seen during the load, fallback to key lookup.
         return getByKey(enchantment.getKey());
     }
 
+    @Nullable
+    public static CustomEnchantment getByOrdinal(int ordinal) {
+        return ordinal >= 0 && ordinal < BY_ORDINAL.size() ? BY_ORDINAL.get(ordinal) : null;
+    }
+
+    /**
+     * @return Bits of all holders that accepted the given enchantment.
+     */
+    public static long getHolderMask(@NotNull CustomEnchantment enchantment) {
+        int ordinal = enchantment.getOrdinal();
+        return ordinal >= 0 && ordinal < holderMasks.length ? holderMasks[ordinal] : 0L;
+    }
+
+    /**
+     * @return Amount of assigned enchantment ordinals, which is also the size of level arrays indexed by ordinal.
+     */
+    public static int getOrdinalCount() {
+        return BY_ORDINAL.size();
+    }
+
+    /**
+     * @return Unmodifiable view of registered enchantments, rebuilt on registration.
+     */
     @NotNull
     public static Set<CustomEnchantment> getRegistered() {
-        return new HashSet<>(BY_ID.values());
+        return registeredSet;
     }
 
     @NotNull
     public static Set<Enchantment> getRegisteredBukkit() {
-        return getRegistered().stream().map(CustomEnchantment::getBukkitEnchantment).collect(Collectors.toSet());
+        return registeredBukkitSet;
     }
 
     @NotNull
@@ -120,11 +204,28 @@ public class EnchantRegistry {
     }
 
     public static <T extends CustomEnchantment> void registerHolder(@NotNull String name, @NotNull EnchantHolder<T> holder) {
-        HOLDERS.put(LowerCase.INTERNAL.apply(name), holder);
+        String key = LowerCase.INTERNAL.apply(name);
+        if (HOLDERS.containsKey(key)) throw new IllegalStateException("Enchant holder with the '" + key + "' name is already registered.");
+        if (holderCount >= Long.SIZE) throw new IllegalStateException("Too many enchant holders registered.");
+
+        holder.setMask(1L << holderCount++);
+        HOLDERS.put(key, holder);
+        publishHolders();
+    }
+
+    /**
+     * @return Unmodifiable list of all registered holders.
+     */
+    @NotNull
+    public static List<EnchantHolder<?>> getHolders() {
+        return holderList;
     }
 
+    /**
+     * @return Unmodifiable list of registered holders that cache equipment enchantments.
+     */
     @NotNull
-    public static Set<EnchantHolder<?>> getHolders() {
-        return new HashSet<>(HOLDERS.values());
+    public static List<EnchantHolder<?>> getCacheableHolders() {
+        return cacheableHolderList;
     }
 }
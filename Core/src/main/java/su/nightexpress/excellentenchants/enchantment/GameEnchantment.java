@@ -9,9 +9,8 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.NotNull;
 import su.nightexpress.excellentenchants.EnchantsPlugin;
-import su.nightexpress.excellentenchants.api.EnchantBlacklist;
 import su.nightexpress.excellentenchants.api.EnchantsPlaceholders;
-import su.nightexpress.excellentenchants.bridge.DistributionConfig;
+import su.nightexpress.excellentenchants.api.Modifier;
 import su.nightexpress.excellentenchants.api.enchantment.CustomEnchantment;
 import su.nightexpress.excellentenchants.api.enchantment.component.ComponentLoader;
 import su.nightexpress.excellentenchants.api.enchantment.component.EnchantComponent;
@@ -44,15 +43,18 @@ public abstract class GameEnchantment extends AbstractFileData<EnchantsPlugin> i
     protected final boolean             curse;
 
     protected final Map<EnchantComponent<?>, ComponentLoader<?>> componentLoaders;
-    protected final Map<EnchantComponent<?>, Optional<?>>        componentDatas;
 
     private final NamespacedKey            chargesKey;
     private final PlaceholderList<Integer> placeholders;
 
     private Enchantment enchantment;
+    private int         ordinal;
     private boolean     hiddenFromList;
     private boolean visualEffects;
     private boolean chargeable;
+    private int     componentMask;
+
+    protected Object[] componentDatas;
 
     public GameEnchantment(@NotNull EnchantsPlugin plugin, @NotNull File file, @NotNull EnchantData data) {
         super(plugin, file);
@@ -69,10 +71,11 @@ public abstract class GameEnchantment extends AbstractFileData<EnchantsPlugin> i
         this.supportedItems = supported;
         this.curse = data.isCurse();
         this.componentLoaders = new HashMap<>();
-        this.componentDatas = new HashMap<>();
+        this.componentDatas = new Object[0];
 
         this.chargesKey = new NamespacedKey(plugin, this.getId() + "_charges");
         this.placeholders = EnchantsPlaceholders.forEnchant(this);
+        this.ordinal = -1;
     }
 
     @Override
@@ -104,10 +107,18 @@ public abstract class GameEnchantment extends AbstractFileData<EnchantsPlugin> i
             this.addComponent(EnchantComponent.CHARGES, Charges.normal());
         }
 
-        this.componentLoaders.forEach((component, loader) -> {
-            var result = loader.load(config);
-            this.componentDatas.put(component, Optional.of(result));
-        });
+        // Sized on each load, as components can be created after the enchantment.
+        Object[] datas = new Object[EnchantComponent.getCount()];
+        int mask = 0;
+
+        for (var entry : this.componentLoaders.entrySet()) {
+            EnchantComponent<?> component = entry.getKey();
+            datas[component.getIndex()] = entry.getValue().load(config);
+            mask |= component.getMask();
+        }
+
+        this.componentDatas = datas;
+        this.componentMask = mask;
     }
 
     protected abstract void loadAdditional(@NotNull FileConfig config);
@@ -124,19 +135,56 @@ public abstract class GameEnchantment extends AbstractFileData<EnchantsPlugin> i
         this.enchantment = enchantment;
     }
 
+    @Override
+    public int getOrdinal() {
+        return this.ordinal;
+    }
+
+    @Override
+    public void setOrdinal(int ordinal) {
+        if (this.ordinal >= 0) throw new IllegalStateException("Ordinal is already assigned to the " + this.getId() + " enchantment.");
+
+        this.ordinal = ordinal;
+    }
+
     protected <T> void addComponent(@NotNull EnchantComponent<T> type, @NotNull T data) {
-        this.componentLoaders.putIfAbsent(type, config -> type.read(config, data));
+        this.componentLoaders.putIfAbsent(type, config -> {
+            T result = type.read(config, data);
+            type.bake(result, this.definition.getMaxLevel());
+            return result;
+        });
+    }
+
+    /**
+     * Loads modifier with values precomputed up to the enchantment max. level.
+     */
+    @NotNull
+    protected Modifier loadModifier(@NotNull FileConfig config, @NotNull String path, @NotNull Modifier.Builder builder, String... comments) {
+        return Modifier.load(config, path, builder, comments).bake(this.definition.getMaxLevel());
+    }
+
+    @NotNull
+    protected Modifier loadModifier(@NotNull FileConfig config, @NotNull String path, @NotNull Modifier def, String... comments) {
+        return Modifier.load(config, path, def, comments).bake(this.definition.getMaxLevel());
     }
 
     public <T> boolean hasComponent(@NotNull EnchantComponent<T> type) {
-        return this.componentDatas.containsKey(type);
+        return (this.componentMask & type.getMask()) != 0;
     }
 
     @SuppressWarnings("unchecked")
     @NotNull
     public <T> T getComponent(@NotNull EnchantComponent<T> type) {
-        Optional<?> optional = this.componentDatas.get(type);
-        return (T) optional.orElseThrow(() -> new IllegalStateException("Enchantment doesn't have the " + type.getName() + " component."));
+        int index = type.getIndex();
+        Object data = index < this.componentDatas.length ? this.componentDatas[index] : null;
+        if (data == null) throw new IllegalStateException("Enchantment doesn't have the " + type.getName() + " component.");
+
+        return (T) data;
+    }
+
+    @Override
+    public int getComponentMask() {
+        return this.componentMask;
     }
 
     @Override
@@ -195,8 +243,7 @@ public abstract class GameEnchantment extends AbstractFileData<EnchantsPlugin> i
 
     @Override
     public boolean isAvailableToUse(@NotNull World world) {
-        EnchantBlacklist blacklist = DistributionConfig.getDisabled(world);
-        return blacklist == null || !blacklist.contains(this);
+        return !WorldAvailability.isDisabled(world, this);
     }
 
     @Override
@@ -341,6 +388,15 @@ public abstract class GameEnchantment extends AbstractFileData<EnchantsPlugin> i
         PDCUtil.set(item, this.chargesKey, set);
     }
 
+    @Override
+    public void setCharges(@NotNull ItemMeta meta, int level, int amount) {
+        if (!this.isChargeable()) return;
+
+        int max = this.getMaxCharges(level);
+        int set = Math.min(Math.abs(amount), max);
+        PDCUtil.set(meta, this.chargesKey, set);
+    }
+
     @Override
     public void restoreCharges(@NotNull ItemStack item, int level) {
         this.setCharges(item, level, this.getMaxCharges(level));
@@ -0,0 +1,115 @@
+package su.nightexpress.excellentenchants.enchantment;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.api.EnchantBlacklist;
+import su.nightexpress.excellentenchants.api.enchantment.CustomEnchantment;
+import su.nightexpress.excellentenchants.bridge.DistributionConfig;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Per-world bit sets of enchantments disabled by the 'Disabled.ByWorld' distribution setting, indexed by enchantment ordinals.
+ * Built when enchantments are loaded, when an enchantment is registered later and when a world is loaded. The map is replaced on each change,
+ * so lookups from any thread need no locking.
+ */
+public class WorldAvailability {
+
+    private static final long[] NONE = new long[0];
+
+    private static volatile Map<World, long[]>  disabledByWorld = new IdentityHashMap<>();
+    private static volatile Map<World, Boolean> allDisabled     = new IdentityHashMap<>();
+    private static volatile boolean             built;
+
+    public static synchronized void rebuild() {
+        Map<World, long[]> disabled = new IdentityHashMap<>();
+        Map<World, Boolean> all = new IdentityHashMap<>();
+
+        for (World world : Bukkit.getWorlds()) {
+            compute(world, disabled, all);
+        }
+
+        disabledByWorld = disabled;
+        allDisabled = all;
+        built = true;
+    }
+
+    /**
+     * Rebuilds bit sets if they are built already, so enchantments registered after load are not reported as enabled everywhere.
+     */
+    public static void refresh() {
+        if (built) rebuild();
+    }
+
+    public static synchronized void update(@NotNull World world) {
+        Map<World, long[]> disabled = new IdentityHashMap<>(disabledByWorld);
+        Map<World, Boolean> all = new IdentityHashMap<>(allDisabled);
+
+        compute(world, disabled, all);
+
+        disabledByWorld = disabled;
+        allDisabled = all;
+    }
+
+    public static synchronized void remove(@NotNull World world) {
+        Map<World, long[]> disabled = new IdentityHashMap<>(disabledByWorld);
+        Map<World, Boolean> all = new IdentityHashMap<>(allDisabled);
+
+        disabled.remove(world);
+        all.remove(world);
+
+        disabledByWorld = disabled;
+        allDisabled = all;
+    }
+
+    public static void clear() {
+        built = false;
+        disabledByWorld = new IdentityHashMap<>();
+        allDisabled = new IdentityHashMap<>();
+    }
+
+    private static void compute(@NotNull World world, @NotNull Map<World, long[]> disabled, @NotNull Map<World, Boolean> all) {
+        EnchantBlacklist blacklist = DistributionConfig.getDisabled(world);
+        if (blacklist == null) {
+            disabled.put(world, NONE);
+            all.put(world, false);
+            return;
+        }
+
+        int count = EnchantRegistry.getOrdinalCount();
+        long[] bits = new long[(count + 63) >> 6];
+        int disabledCount = 0;
+
+        for (int ordinal = 0; ordinal < count; ordinal++) {
+            CustomEnchantment enchantment = EnchantRegistry.getByOrdinal(ordinal);
+            if (enchantment == null || !blacklist.contains(enchantment)) continue;
+
+            bits[ordinal >> 6] |= 1L << ordinal;
+            disabledCount++;
+        }
+
+        disabled.put(world, disabledCount == 0 ? NONE : bits);
+        all.put(world, count > 0 && disabledCount == count);
+    }
+
+    public static boolean isDisabled(@NotNull World world, @NotNull CustomEnchantment enchantment) {
+        int ordinal = enchantment.getOrdinal();
+        long[] bits = disabledByWorld.get(world);
+        if (bits == null || ordinal < 0) {
+            EnchantBlacklist blacklist = DistributionConfig.getDisabled(world);
+            return blacklist != null && blacklist.contains(enchantment);
+        }
+
+        int word = ordinal >> 6;
+        return word < bits.length && (bits[word] & (1L << ordinal)) != 0L;
+    }
+
+    /**
+     * @return True if all registered enchantments are disabled in the world, so dispatch there can be skipped.
+     */
+    public static boolean isAllDisabled(@NotNull World world) {
+        return allDisabled.getOrDefault(world, false);
+    }
+}
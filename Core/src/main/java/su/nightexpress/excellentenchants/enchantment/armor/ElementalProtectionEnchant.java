@@ -40,7 +40,7 @@ public class ElementalProtectionEnchant extends GameEnchantment implements Prote
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.amount = Modifier.load(config, "Protection.Amount",
+        this.amount = this.loadModifier(config, "Protection.Amount",
             Modifier.addictive(0).perLevel(5).capacity(25),
             "Protection amount given by enchantment."
         );
@@ -83,6 +83,12 @@ public class ElementalProtectionEnchant extends GameEnchantment implements Prote
         return new DamageBonus(this.multiplier ? DamageBonusType.MULTIPLIER : DamageBonusType.NORMAL);
     }
 
+    @Override
+    @NotNull
+    public Set<DamageType> getProtectionDamageTypes() {
+        return DAMAGE_CAUSES;
+    }
+
     @Override
     public boolean onProtection(@NotNull EntityDamageEvent event, @NotNull DamageBonus damageBonus, @NotNull LivingEntity entity, @NotNull ItemStack itemStack, int level) {
         DamageSource source = event.getDamageSource();
@@ -37,7 +37,7 @@ public class FireShieldEnchant extends GameEnchantment implements DefendEnchant
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.fireDuration = Modifier.load(config, "FireShield.Duration",
+        this.fireDuration = this.loadModifier(config, "FireShield.Duration",
             Modifier.addictive(4).perLevel(1).capacity(10),
             "Sets the fire duration (in seconds)."
         );
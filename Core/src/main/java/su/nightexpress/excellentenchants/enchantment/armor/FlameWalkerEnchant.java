@@ -39,7 +39,8 @@ import java.util.stream.Stream;
 
 public class FlameWalkerEnchant extends GameEnchantment implements MoveEnchant, ProtectionEnchant {
 
-    private static final BlockFace[] FACES = {BlockFace.SOUTH, BlockFace.NORTH, BlockFace.EAST, BlockFace.WEST};
+    private static final BlockFace[]     FACES            = {BlockFace.SOUTH, BlockFace.NORTH, BlockFace.EAST, BlockFace.WEST};
+    private static final Set<DamageType> PROTECTION_TYPES = Set.of(DamageType.HOT_FLOOR);
 
     private Modifier radius;
     private Modifier decayTime;
@@ -50,12 +51,12 @@ public class FlameWalkerEnchant extends GameEnchantment implements MoveEnchant,
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.radius = Modifier.load(config, "FlameWalker.Radius",
+        this.radius = this.loadModifier(config, "FlameWalker.Radius",
             Modifier.addictive(1).perLevel(1).capacity(16),
             "Square radius around the block to transform into magma block."
         );
 
-        this.decayTime = Modifier.load(config, "FlameWalker.Block_Decay",
+        this.decayTime = this.loadModifier(config, "FlameWalker.Block_Decay",
             Modifier.addictive(8).perLevel(1).capacity(15),
             "Sets life time for magma blocks before turning back into lava."
         );
@@ -107,6 +108,12 @@ public class FlameWalkerEnchant extends GameEnchantment implements MoveEnchant,
         return true;
     }
 
+    @Override
+    @NotNull
+    public Set<DamageType> getProtectionDamageTypes() {
+        return PROTECTION_TYPES;
+    }
+
     @Override
     public boolean onProtection(@NotNull EntityDamageEvent event, @NotNull DamageBonus damageBonus, @NotNull LivingEntity entity, @NotNull ItemStack itemStack, int level) {
         DamageSource source = event.getDamageSource();
@@ -12,6 +12,7 @@ import su.nightexpress.excellentenchants.enchantment.EnchantData;
 import su.nightexpress.excellentenchants.api.EnchantPriority;
 import su.nightexpress.excellentenchants.api.Modifier;
 import su.nightexpress.excellentenchants.api.enchantment.component.EnchantComponent;
+import su.nightexpress.excellentenchants.api.enchantment.meta.Cooldown;
 import su.nightexpress.excellentenchants.api.enchantment.meta.Probability;
 import su.nightexpress.excellentenchants.api.enchantment.type.DeathEnchant;
 import su.nightexpress.excellentenchants.api.enchantment.type.ResurrectEnchant;
@@ -30,6 +31,7 @@ public class KamikadzeEnchant extends GameEnchantment implements DeathEnchant, R
     public KamikadzeEnchant(@NotNull EnchantsPlugin plugin, @NotNull File file, @NotNull EnchantData data) {
         super(plugin, file, data);
         this.addComponent(EnchantComponent.PROBABILITY, Probability.addictive(0, 3));
+        this.addComponent(EnchantComponent.COOLDOWN, Cooldown.none());
     }
 
     @Override
@@ -39,7 +41,7 @@ public class KamikadzeEnchant extends GameEnchantment implements DeathEnchant, R
             "Sets whether or not enchantment will trigger on resurrect (when a totem is used)."
         ).read(config);
 
-        this.power = Modifier.load(config, "Kamikadze.Explosion_Power", Modifier.addictive(1).perLevel(1).capacity(5), "Explosion power.");
+        this.power = this.loadModifier(config, "Kamikadze.Explosion_Power", Modifier.addictive(1).perLevel(1).capacity(5), "Explosion power.");
     }
 
     public boolean isOnResurrect() {
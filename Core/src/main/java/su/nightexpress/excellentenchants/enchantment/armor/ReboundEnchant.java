@@ -23,9 +23,12 @@ import su.nightexpress.nightcore.util.LocationUtil;
 import su.nightexpress.nightcore.util.wrapper.UniParticle;
 
 import java.io.File;
+import java.util.Set;
 
 public class ReboundEnchant extends GameEnchantment implements ProtectionEnchant {
 
+    private static final Set<DamageType> PROTECTION_TYPES = Set.of(DamageType.FALL);
+
     private Modifier modifier;
     private Modifier capacity;
 
@@ -35,13 +38,13 @@ public class ReboundEnchant extends GameEnchantment implements ProtectionEnchant
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.modifier = Modifier.load(config, "Rebound.Modifier",
+        this.modifier = this.loadModifier(config, "Rebound.Modifier",
             Modifier.addictive(0.2).perLevel(0.1).capacity(0.5),
             "Sets bounce power modifier based on fall distance.",
             "Greater value = greater rebound."
         );
 
-        this.capacity = Modifier.load(config, "Rebound.Capacity",
+        this.capacity = this.loadModifier(config, "Rebound.Capacity",
             Modifier.addictive(0.75).perLevel(0.15).capacity(1.5D),
             "Sets maximal bounce power modifier value.",
             "Greater value = greater rebound."
@@ -60,6 +63,12 @@ public class ReboundEnchant extends GameEnchantment implements ProtectionEnchant
         return new DamageBonus(DamageBonusType.NORMAL);
     }
 
+    @Override
+    @NotNull
+    public Set<DamageType> getProtectionDamageTypes() {
+        return PROTECTION_TYPES;
+    }
+
     @Override
     public boolean onProtection(@NotNull EntityDamageEvent event, @NotNull DamageBonus damageBonus, @NotNull LivingEntity entity, @NotNull ItemStack boots, int level) {
         if (event.getDamageSource().getDamageType() != DamageType.FALL) return false;
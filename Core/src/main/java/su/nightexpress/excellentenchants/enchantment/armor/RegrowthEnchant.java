@@ -35,17 +35,17 @@ public class RegrowthEnchant extends GameEnchantment implements PassiveEnchant {
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.minHealth = Modifier.load(config, "Regrowth.Min_Health",
+        this.minHealth = this.loadModifier(config, "Regrowth.Min_Health",
             Modifier.addictive(0.5),
             "Min. health required for the regrowth effect."
         );
 
-        this.maxHealth = Modifier.load(config, "Regrowth.Max_Health",
+        this.maxHealth = this.loadModifier(config, "Regrowth.Max_Health",
             Modifier.addictive(20),
             "Max. health where the regrowth stops."
         );
 
-        this.healAmount = Modifier.load(config, "Regrowth.Heal_Amount",
+        this.healAmount = this.loadModifier(config, "Regrowth.Heal_Amount",
             Modifier.addictive(0.1).perLevel(0.1).capacity(1D),
             "Amount of hearts to be restored."
         );
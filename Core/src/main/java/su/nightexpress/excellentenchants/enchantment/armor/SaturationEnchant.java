@@ -29,11 +29,11 @@ public class SaturationEnchant extends GameEnchantment implements PassiveEnchant
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.feedAmount = Modifier.load(config, "Saturation.Amount",
+        this.feedAmount = this.loadModifier(config, "Saturation.Amount",
             Modifier.addictive(0).perLevel(1).capacity(5),
             "Amount of food points to restore.");
 
-        this.maxFoodLevel = Modifier.load(config, "Saturation.Max_Food_Level",
+        this.maxFoodLevel = this.loadModifier(config, "Saturation.Max_Food_Level",
             Modifier.addictive(20),
             "Max. food level where saturation stops.");
 
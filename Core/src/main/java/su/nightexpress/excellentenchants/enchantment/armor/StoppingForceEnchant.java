@@ -29,7 +29,7 @@ public class StoppingForceEnchant extends GameEnchantment implements DefendEncha
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.knockbackReduction = Modifier.load(config, "Knockback.Reduction",
+        this.knockbackReduction = this.loadModifier(config, "Knockback.Reduction",
             Modifier.addictive(0.3).perLevel(0.2).capacity(1D),
             "Sets the knockback multiplier when taking damage.", "Lower value = less knockback.");
 
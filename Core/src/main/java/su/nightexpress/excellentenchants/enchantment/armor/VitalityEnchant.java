@@ -56,12 +56,12 @@ public class VitalityEnchant extends GameEnchantment implements PassiveEnchant,
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.baseHealth = Modifier.load(config, "Settings.Base_Health", 
+        this.baseHealth = this.loadModifier(config, "Settings.Base_Health", 
             Modifier.addictive(2.0), 
             "Base health boost amount."
         );
         
-        this.healthPerLevel = Modifier.load(config, "Settings.Health_Per_Level", 
+        this.healthPerLevel = this.loadModifier(config, "Settings.Health_Per_Level", 
             Modifier.addictive(2.0), 
             "Additional health per enchantment level."
         );
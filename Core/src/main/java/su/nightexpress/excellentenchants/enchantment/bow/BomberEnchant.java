@@ -14,6 +14,7 @@ import su.nightexpress.excellentenchants.api.EnchantsPlaceholders;
 import su.nightexpress.excellentenchants.api.Modifier;
 import su.nightexpress.excellentenchants.api.enchantment.component.EnchantComponent;
 import su.nightexpress.excellentenchants.api.enchantment.meta.Charges;
+import su.nightexpress.excellentenchants.api.enchantment.meta.Cooldown;
 import su.nightexpress.excellentenchants.api.enchantment.meta.Probability;
 import su.nightexpress.excellentenchants.api.enchantment.type.BowEnchant;
 import su.nightexpress.excellentenchants.enchantment.GameEnchantment;
@@ -30,12 +31,13 @@ public class BomberEnchant extends GameEnchantment implements BowEnchant {
     public BomberEnchant(@NotNull EnchantsPlugin plugin, @NotNull File file, @NotNull EnchantData data) {
         super(plugin, file, data);
         this.addComponent(EnchantComponent.PROBABILITY, Probability.oneHundred());
+        this.addComponent(EnchantComponent.COOLDOWN, Cooldown.none());
         this.addComponent(EnchantComponent.CHARGES, Charges.custom(Modifier.addictive(50).perLevel(10).build(), 1, 1, NightItem.fromType(Material.TNT)));
     }
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.fuseTicks = Modifier.load(config, "Bomber.Fuse_Ticks",
+        this.fuseTicks = this.loadModifier(config, "Bomber.Fuse_Ticks",
             Modifier.addictive(40).perLevel(10).capacity(200),
             "Sets TNT fuse ticks.");
 
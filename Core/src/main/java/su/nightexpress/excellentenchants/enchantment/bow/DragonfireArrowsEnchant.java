@@ -46,12 +46,12 @@ public class DragonfireArrowsEnchant extends GameEnchantment implements ArrowEnc
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.duration = Modifier.load(config, "Dragonfire.Duration",
+        this.duration = this.loadModifier(config, "Dragonfire.Duration",
             Modifier.addictive(40).perLevel(20).capacity(60 * 20),
             "Dragonfire cloud effect duration (in ticks). 20 ticks = 1 second."
         );
 
-        this.radius = Modifier.load(config, "Dragonfire.Radius",
+        this.radius = this.loadModifier(config, "Dragonfire.Radius",
             Modifier.addictive(0).perLevel(1).capacity(5),
             "Dragonfire cloud effect radius."
         );
@@ -41,7 +41,7 @@ public class ElectrifiedArrowsEnchant extends GameEnchantment implements ArrowEn
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.damageAmount = Modifier.load(config, "Electrified.DamageAmount",
+        this.damageAmount = this.loadModifier(config, "Electrified.DamageAmount",
             Modifier.addictive(1.25).perLevel(0.25).capacity(1000D),
             "Sets additional damage caused by enchantment's effect."
         );
@@ -54,7 +54,7 @@ public class ExplosiveArrowsEnchant extends GameEnchantment implements ArrowEnch
             false,
             "Controls whether explosion can break blocks.").read(config);
 
-        this.power = Modifier.load(config, "Explosion.Power",
+        this.power = this.loadModifier(config, "Explosion.Power",
             Modifier.addictive(1).perLevel(1).capacity(5),
             "Explosion power.");
 
@@ -38,7 +38,7 @@ public class GhastEnchant extends GameEnchantment implements BowEnchant {
             true,
             "Controls whether fireball explosion sets nearby blocks on fire.").read(config);
 
-        this.yield = Modifier.load(config, "Fireball.Yield",
+        this.yield = this.loadModifier(config, "Fireball.Yield",
             Modifier.addictive(2).perLevel(0).capacity(5),
             "Fireball explosion power.");
     }
@@ -31,7 +31,7 @@ public class SniperEnchant extends GameEnchantment implements BowEnchant {
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.speedModifier = Modifier.load(config, "Sniper.Speed_Modifier",
+        this.speedModifier = this.loadModifier(config, "Sniper.Speed_Modifier",
             Modifier.addictive(1).perLevel(0.2).capacity(3D),
             "Projectile's speed modifier.");
 
@@ -40,7 +40,7 @@ public class VampiricArrowsEnchant extends GameEnchantment implements ArrowEncha
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.healAmount = Modifier.load(config, "Vampire.Heal_Amount",
+        this.healAmount = this.loadModifier(config, "Vampire.Heal_Amount",
             Modifier.addictive(1).perLevel(0.5).capacity(5),
             "Amount of hearts to be restore."
         );
@@ -25,7 +25,7 @@ public class SeasonedAnglerEnchant extends GameEnchantment implements FishingEnc
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.xpModifier = Modifier.load(config, "SeasonedAngler.XP_Modifier",
+        this.xpModifier = this.loadModifier(config, "SeasonedAngler.XP_Modifier",
             Modifier.addictive(0).perLevel(50).capacity(300),
             "Amount (in percent) of additional XP from fishing.");
 
@@ -12,6 +12,7 @@ import su.nightexpress.excellentenchants.api.EnchantPriority;
 import su.nightexpress.excellentenchants.api.EnchantsPlaceholders;
 import su.nightexpress.excellentenchants.api.Modifier;
 import su.nightexpress.excellentenchants.api.enchantment.component.EnchantComponent;
+import su.nightexpress.excellentenchants.api.enchantment.meta.Cooldown;
 import su.nightexpress.excellentenchants.api.enchantment.meta.Probability;
 import su.nightexpress.excellentenchants.api.enchantment.type.MiningEnchant;
 import su.nightexpress.excellentenchants.enchantment.GameEnchantment;
@@ -31,11 +32,12 @@ public class BlastMiningEnchant extends GameEnchantment implements MiningEnchant
     public BlastMiningEnchant(@NotNull EnchantsPlugin plugin, @NotNull File file, @NotNull EnchantData data) {
         super(plugin, file, data);
         this.addComponent(EnchantComponent.PROBABILITY, Probability.addictive(0, 10));
+        this.addComponent(EnchantComponent.COOLDOWN, Cooldown.none());
     }
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.explosionPower = Modifier.load(config, "BlastMining.Explosion_Power",
+        this.explosionPower = this.loadModifier(config, "BlastMining.Explosion_Power",
             Modifier.addictive(3).perLevel(0.75).capacity(8),
             "Explosion power. The more power = the more blocks (area) to explode.");
 
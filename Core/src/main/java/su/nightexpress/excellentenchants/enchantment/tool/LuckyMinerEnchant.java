@@ -29,7 +29,7 @@ public class LuckyMinerEnchant extends GameEnchantment implements MiningEnchant
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.xpModifier = Modifier.load(config, "LuckyMiner.XP_Modifier",
+        this.xpModifier = this.loadModifier(config, "LuckyMiner.XP_Modifier",
             Modifier.addictive(1).perLevel(0.5).capacity(3D),
             "XP Modifier. Amount of dropped XP will be multiplied on this value."
         );
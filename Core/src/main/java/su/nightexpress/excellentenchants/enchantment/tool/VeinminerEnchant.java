@@ -49,7 +49,7 @@ public class VeinminerEnchant extends GameEnchantment implements MiningEnchant {
             "Sets whether or not enchantment will have no effect when crouching."
         ).read(config);
 
-        this.blocksLimit = Modifier.load(config, "Veinminer.Block_Limit",
+        this.blocksLimit = this.loadModifier(config, "Veinminer.Block_Limit",
             Modifier.addictive(4).perLevel(1).capacity(16),
             "Max. possible amount of blocks to be mined at the same time.");
 
@@ -29,7 +29,7 @@ public class CurseOfBreakingEnchant extends GameEnchantment implements Durabilit
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.durabilityAmount = Modifier.load(config, "CurseOfBreaking.Amount",
+        this.durabilityAmount = this.loadModifier(config, "CurseOfBreaking.Amount",
             Modifier.addictive(0).perLevel(1).capacity(5),
             "Amount of durability points to be taken from the item.");
 
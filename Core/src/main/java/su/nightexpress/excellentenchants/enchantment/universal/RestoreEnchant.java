@@ -32,7 +32,7 @@ public class RestoreEnchant extends GameEnchantment implements DurabilityEnchant
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.amount = Modifier.load(config, "Restore.Amount",
+        this.amount = this.loadModifier(config, "Restore.Amount",
             Modifier.addictive(15).perLevel(5).capacity(100),
             "Amount of durability (in percent of item max) to be restored.");
 
@@ -59,7 +59,7 @@ public class SelfRepairingEnchant extends GameEnchantment implements PassiveEnch
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.repairAmount = Modifier.load(config, "Settings.Repair.Amount",
+        this.repairAmount = this.loadModifier(config, "Settings.Repair.Amount",
             Modifier.addictive(1).perLevel(1).capacity(10),
             "Amount of durability points to be repaired per trigger."
         );
@@ -46,7 +46,7 @@ public class BaneOfNetherspawnEnchant extends GameEnchantment implements AttackE
             "When 'true' multiplies the damage. When 'false' sums plain values."
         ).read(config);
 
-        this.damageMod = Modifier.load(config, "BaneOfNetherspawn.Damage.Amount",
+        this.damageMod = this.loadModifier(config, "BaneOfNetherspawn.Damage.Amount",
             Modifier.addictive(0.75).perLevel(0.25).capacity(1000D),
             "Amount of additional damage."
         );
@@ -41,7 +41,7 @@ public class CutterEnchant extends GameEnchantment implements AttackEnchant {
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.durabilityReduction = Modifier.load(config, "Cutter.Durability_Reduction",
+        this.durabilityReduction = this.loadModifier(config, "Cutter.Durability_Reduction",
             Modifier.addictive(0).perLevel(0.01).capacity(1D),
             "Amount (in percent) of how much item durability will be reduced.");
 
@@ -34,7 +34,7 @@ public class InfernusEnchant extends GameEnchantment implements TridentEnchant {
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.fireTicks = Modifier.load(config, "Infernus.Fire_Ticks",
+        this.fireTicks = this.loadModifier(config, "Infernus.Fire_Ticks",
             Modifier.addictive(60).perLevel(20).capacity(120),
             "Sets for how long (in ticks) entity will be ignited on hit. 20 ticks = 1 second.");
 
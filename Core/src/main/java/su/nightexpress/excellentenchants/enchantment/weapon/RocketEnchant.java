@@ -33,7 +33,7 @@ public class RocketEnchant extends GameEnchantment implements AttackEnchant {
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.fireworkPower = Modifier.load(config, "Rocket.Firework_Power",
+        this.fireworkPower = this.loadModifier(config, "Rocket.Firework_Power",
             Modifier.addictive(1).perLevel(0.25).capacity(3D),
             "Firework power. The more power = the higher fly distance.");
     }
@@ -30,7 +30,7 @@ public class SwiperEnchant extends GameEnchantment implements AttackEnchant {
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.xpAmount = Modifier.load(config, "Swiper.XP_Amount",
+        this.xpAmount = this.loadModifier(config, "Swiper.XP_Amount",
             Modifier.addictive(0).perLevel(1).capacity(10),
             "Amount of XP to be stolen on hit.");
 
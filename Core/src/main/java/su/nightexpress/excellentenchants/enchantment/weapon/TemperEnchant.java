@@ -29,12 +29,12 @@ public class TemperEnchant extends GameEnchantment implements AttackEnchant {
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.damageAmount = Modifier.load(config, "Temper.Damage_Amount",
+        this.damageAmount = this.loadModifier(config, "Temper.Damage_Amount",
             Modifier.addictive(0).perLevel(5).capacity(100),
             "Extra damage (in %)"
         );
 
-        this.damageStep = Modifier.load(config, "Settings.Damage.Step",
+        this.damageStep = this.loadModifier(config, "Settings.Damage.Step",
             Modifier.addictive(0.5),
             "Damage will be increased for every X entity's health points missing. Where X is this value.",
             "By default increases damage by 5% for every 0.5 HP missing."
@@ -36,7 +36,7 @@ public class VampireEnchant extends GameEnchantment implements AttackEnchant {
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.healAmount = Modifier.load(config, "Vampire.Amount",
+        this.healAmount = this.loadModifier(config, "Vampire.Amount",
             Modifier.addictive(0.25).perLevel(0.25).capacity(10),
             "Amount of health to be restored for attacker.");
 
@@ -31,7 +31,7 @@ public class VillageDefenderEnchant extends GameEnchantment implements AttackEnc
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.damageAmount = Modifier.load(config, "VillageDefender.Damage",
+        this.damageAmount = this.loadModifier(config, "VillageDefender.Damage",
             Modifier.addictive(0.5).perLevel(0.5).capacity(1000D),
             "Amount of additional damage.");
 
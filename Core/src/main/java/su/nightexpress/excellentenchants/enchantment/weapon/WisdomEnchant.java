@@ -27,7 +27,7 @@ public class WisdomEnchant extends GameEnchantment implements KillEnchant {
 
     @Override
     protected void loadAdditional(@NotNull FileConfig config) {
-        this.xpModifier = Modifier.load(config, "Wisdom.XP_Modifier",
+        this.xpModifier = this.loadModifier(config, "Wisdom.XP_Modifier",
             Modifier.addictive(1).perLevel(0.5).capacity(3D),
             "Exp modifier value. The original exp amount will be multiplied on this value.");
 
@@ -2,6 +2,7 @@ package su.nightexpress.excellentenchants.manager;
 
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.*;
@@ -15,23 +16,42 @@ import su.nightexpress.excellentenchants.EnchantsPlugin;
 import su.nightexpress.excellentenchants.api.*;
 import su.nightexpress.excellentenchants.api.enchantment.CustomEnchantment;
 import su.nightexpress.excellentenchants.api.enchantment.component.EnchantComponent;
+import su.nightexpress.excellentenchants.api.enchantment.type.PassiveEnchant;
 import su.nightexpress.excellentenchants.api.enchantment.type.ProjectileEnchant;
 import su.nightexpress.excellentenchants.enchantment.EnchantData;
 import su.nightexpress.excellentenchants.enchantment.EnchantDataRegistry;
 import su.nightexpress.excellentenchants.config.Config;
 import su.nightexpress.excellentenchants.enchantment.EnchantHolder;
 import su.nightexpress.excellentenchants.enchantment.EnchantRegistry;
+import su.nightexpress.excellentenchants.enchantment.WorldAvailability;
 import su.nightexpress.excellentenchants.manager.block.TickedBlock;
+import su.nightexpress.excellentenchants.manager.charges.ChargesLedger;
+import su.nightexpress.excellentenchants.manager.charges.DeferredCharges;
+import su.nightexpress.excellentenchants.manager.cooldown.EnchantCooldowns;
 import su.nightexpress.excellentenchants.manager.damage.Explosion;
+import su.nightexpress.excellentenchants.manager.equipment.EquipmentEnchantSnapshot;
+import su.nightexpress.excellentenchants.manager.equipment.TickItemMemo;
 import su.nightexpress.excellentenchants.manager.listener.AnvilListener;
+import su.nightexpress.excellentenchants.manager.listener.ChargesListener;
 import su.nightexpress.excellentenchants.manager.listener.EnchantListener;
+import su.nightexpress.excellentenchants.manager.listener.EquipmentListener;
 import su.nightexpress.excellentenchants.manager.listener.GenericListener;
+import su.nightexpress.excellentenchants.manager.listener.PassiveListener;
 import su.nightexpress.excellentenchants.manager.listener.SlotListener;
 import su.nightexpress.excellentenchants.manager.menu.EnchantsMenu;
+import su.nightexpress.excellentenchants.manager.passive.PassiveBatch;
+import su.nightexpress.excellentenchants.manager.passive.PassiveEntities;
+import su.nightexpress.excellentenchants.manager.passive.PassiveEntity;
+import su.nightexpress.excellentenchants.manager.passive.PassiveEntry;
+import su.nightexpress.excellentenchants.manager.passive.PassiveLod;
+import su.nightexpress.excellentenchants.manager.passive.PassiveWheel;
+import su.nightexpress.excellentenchants.manager.passive.PlayerPositions;
+import su.nightexpress.excellentenchants.manager.tick.TickGovernor;
 import su.nightexpress.excellentenchants.util.EnchantUtils;
 import su.nightexpress.nightcore.manager.AbstractManager;
 import su.nightexpress.nightcore.util.BukkitThing;
 import su.nightexpress.nightcore.util.EntityUtil;
+import su.nightexpress.nightcore.util.Lists;
 import su.nightexpress.nightcore.util.Players;
 import su.nightexpress.nightcore.util.Version;
 import su.nightexpress.nightcore.util.bridge.RegistryType;
@@ -42,21 +62,38 @@ import java.io.File;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.function.Function;
 
 public class EnchantManager extends AbstractManager<EnchantsPlugin> {
 
     private final Map<AbstractArrow, Set<UniParticle>> arrowEffects;
     private final Map<Location, TickedBlock>           tickedBlocks;
     private final Map<UUID, Explosion>                 explosions;
+    private final Map<UUID, EquipmentEnchantSnapshot>  equipmentSnapshots;
+    private final DeferredCharges                      deferredCharges;
+    private final EnchantCooldowns                     cooldowns;
+    private final PassiveEntities                      passiveEntities;
+    private final PassiveWheel                         passiveWheel;
+    private final PlayerPositions                      playerPositions;
 
     private EnchantsMenu enchantsMenu;
 
+    private TickGovernor tickGovernor;
+    private int          pendingBlockTicks;
+    private long         arrowEffectRuns;
+
+    private volatile long currentTick;
+
     public EnchantManager(@NotNull EnchantsPlugin plugin) {
         super(plugin);
         this.arrowEffects = new ConcurrentHashMap<>();
         this.tickedBlocks = new HashMap<>();
         this.explosions = new HashMap<>();
+        this.equipmentSnapshots = new ConcurrentHashMap<>();
+        this.deferredCharges = new DeferredCharges(plugin);
+        this.cooldowns = new EnchantCooldowns();
+        this.passiveEntities = new PassiveEntities();
+        this.passiveWheel = new PassiveWheel(0L);
+        this.playerPositions = new PlayerPositions();
     }
 
     protected void onLoad() {
@@ -66,34 +103,83 @@ public class EnchantManager extends AbstractManager<EnchantsPlugin> {
 
         this.addListener(new GenericListener(this.plugin, this));
         this.addListener(new AnvilListener(this.plugin));
-        this.addListener(new EnchantListener(this.plugin, this));
+        this.addListener(new EquipmentListener(this.plugin, this));
+
+        EnchantListener enchantListener = new EnchantListener(this.plugin, this);
+        this.addListener(enchantListener);
+        enchantListener.registerHolderHandlers();
 
         if (Version.isPaper()) {
             this.addListener(new SlotListener(this.plugin, this));
+
+            // Snapshots don't survive plugin reload, players already online have no slot events to build them from.
+            Players.getOnline().forEach(player -> this.plugin.runAtEntity(player, task -> this.cacheEquipment(player)));
+        }
+
+        if (Config.isChargesDeferred()) {
+            this.addListener(new ChargesListener(this.plugin, this));
+            this.addTask(this::flushDeferredCharges, Config.CHARGES_DEFERRED_FLUSH_INTERVAL.get());
+        }
+
+        this.tickGovernor = new TickGovernor(
+            Config.TICK_BUDGET_ENABLED.get(),
+            Config.TICK_BUDGET_NANOS.get(),
+            Config.TICK_BUDGET_MSPT_THRESHOLD.get(),
+            Config.TICK_BUDGET_MAX_STRETCH.get(),
+            Config.TICK_BUDGET_MAX_QUEUED.get(),
+            Version.isPaper() && !this.plugin.isFolia()
+        );
+        if (Config.TICK_BUDGET_ENABLED.get()) {
+            this.addTask(this.tickGovernor::updateStretch, 1);
         }
 
         this.addAsyncTask(this::tickArrowEffects, Config.ARROW_EFFECTS_TICK_INTERVAL.get());
 
         if (!EnchantRegistry.PASSIVE.isEmpty()) {
-            this.addTask(this::tickPassiveEnchants, Config.PASSIVE_ENCHANTS_TICK_INTERVAL.get());
+            this.addListener(new PassiveListener(this.plugin, this));
+            this.loadPassiveEntities();
+            this.addTask(this::tickPassiveEnchants, 1L);
+
+            if (this.plugin.isFolia() && Config.PASSIVE_ENCHANTS_ALLOW_FOR_MOBS.get() && Config.PASSIVE_ENCHANTS_LOD_ENABLED.get()) {
+                this.addTask(this::updatePlayerPositions, 1);
+            }
+
+            int rescanInterval = Config.PASSIVE_ENCHANTS_MOBS_RESCAN_INTERVAL.get();
+            if (!Version.isPaper() && Config.PASSIVE_ENCHANTS_ALLOW_FOR_MOBS.get() && rescanInterval > 0) {
+                this.addTask(this::rescanPassiveMobs, rescanInterval);
+            }
         }
 
+        this.addTask(() -> this.currentTick++, 1L);
         this.addTask(this::tickBlocks, 1L);
+        this.addTask(this::purgeSnapshots, 30);
+        this.addTask(() -> this.cooldowns.purge(this.currentTick), 30);
     }
 
     @Override
     protected void onShutdown() {
         this.restoreBlocks();
+        this.plugin.getServer().getOnlinePlayers().forEach(this::flushCharges);
 
         if (this.enchantsMenu != null) this.enchantsMenu.clear();
 
         this.arrowEffects.clear();
         this.tickedBlocks.clear();
         this.explosions.clear();
+        this.equipmentSnapshots.clear();
+        this.deferredCharges.clear();
+        this.cooldowns.clear();
+        this.passiveEntities.clear();
+        this.passiveWheel.clear();
+        this.playerPositions.clear();
+        this.tickGovernor.clear();
+        WorldAvailability.clear();
     }
 
     private void loadEnchants() {
         EnchantDataRegistry.getMap().forEach(this::loadEnchant);
+        EnchantRegistry.indexBukkitEnchantments();
+        WorldAvailability.rebuild();
         this.plugin.info("Loaded " + EnchantRegistry.getRegistered().size() + " enchantments.");
     }
 
@@ -131,25 +217,135 @@ public class EnchantManager extends AbstractManager<EnchantsPlugin> {
     }
 
     public void updateCache(@NotNull LivingEntity entity, @NotNull EquipmentSlot slot, @Nullable ItemStack itemStack) {
-        EnchantRegistry.getHolders().forEach(holder -> {
-            if (!holder.isCacheable()) return;
+        EnchantedItem<?> enchantedItem = null;
+        if (itemStack != null && !itemStack.getType().isAir() && EnchantUtils.isEquipment(itemStack)) {
+            enchantedItem = EnchantUtils.getEnchantedItem(itemStack);
+        }
 
-            if (itemStack == null || itemStack.getType().isAir() || !EnchantUtils.isEquipment(itemStack)) {
-                holder.removeCache(entity, slot);
-                return;
-            }
+        this.equipmentSnapshots.computeIfAbsent(entity.getUniqueId(), k -> new EquipmentEnchantSnapshot(entity, false)).set(slot, enchantedItem, itemStack);
+    }
+
+    /**
+     * Returns parsed enchantments of the item in specified slot for entities that has no slot change events
+     * (all mobs and Spigot players). The item is reparsed only when it differs from the copy it was parsed from:
+     * other type or amount, or not similar content (components comparison, no meta copy). In-place changes of the item
+     * (enchant command, setItemMeta of other plugins) are detected, as the snapshot keeps a detached copy.
+     */
+    @Nullable
+    private EnchantedItem<?> getValidatedItem(@NotNull EquipmentEnchantSnapshot snapshot, @NotNull EquipmentSlot slot, @Nullable ItemStack itemStack) {
+        if (itemStack == null || itemStack.getType().isAir() || !EnchantUtils.isEquipment(itemStack)) {
+            snapshot.set(slot, null, null);
+            return null;
+        }
 
-            Map<CustomEnchantment, Integer> allEnchants = EnchantUtils.getCustomEnchantments(itemStack);
-            holder.updateCache(entity, slot, itemStack, allEnchants);
+        ItemStack source = snapshot.getSource(slot);
+        if (source != null && isSameItem(source, itemStack)) {
+            return snapshot.get(slot);
+        }
+
+        EnchantedItem<?> enchantedItem = EnchantUtils.getEnchantedItem(itemStack);
+        snapshot.set(slot, enchantedItem, itemStack);
+        return enchantedItem;
+    }
+
+    private static boolean isSameItem(@NotNull ItemStack source, @NotNull ItemStack itemStack) {
+        if (source.getType() != itemStack.getType() || source.getAmount() != itemStack.getAmount()) return false;
+
+        return source.isSimilar(itemStack);
+    }
+
+    private boolean isSlotTracked(@NotNull LivingEntity entity) {
+        return entity.getType() == EntityType.PLAYER && Version.isPaper();
+    }
+
+    private void purgeSnapshots() {
+        this.equipmentSnapshots.values().removeIf(snapshot -> {
+            LivingEntity owner = snapshot.getOwner();
+            if (owner instanceof Player player) return !player.isOnline();
+
+            return snapshot.isValidated() && !owner.isValid();
         });
     }
 
+    public void updateHeldCache(@NotNull Player player, int heldSlot, @Nullable ItemStack itemStack) {
+        this.updateCache(player, EquipmentSlot.HAND, itemStack);
+
+        EquipmentEnchantSnapshot snapshot = this.getEquipmentSnapshot(player);
+        if (snapshot != null) snapshot.setHeldSlot(heldSlot);
+    }
+
+    /**
+     * @return Number of ticks passed since the manager was loaded.
+     */
+    public long getCurrentTick() {
+        return this.currentTick;
+    }
+
+    /**
+     * Parses item enchantments, reusing result for an equal item parsed earlier in the same tick on the current thread.
+     * Returned instance may be parsed from an equal copy, so usages must write into the given item.
+     */
+    @Nullable
+    public EnchantedItem<?> parseItem(@NotNull ItemStack itemStack) {
+        return TickItemMemo.get(this.currentTick).parse(itemStack, true);
+    }
+
+    public void cacheEquipment(@NotNull LivingEntity entity) {
+        for (EquipmentSlot slot : ARMOR_SLOTS) {
+            this.updateCache(entity, slot, EntityUtil.getItemInSlot(entity, slot));
+        }
+
+        if (entity instanceof Player player) {
+            this.updateHeldCache(player, player.getInventory().getHeldItemSlot(), EntityUtil.getItemInSlot(player, EquipmentSlot.HAND));
+        }
+    }
+
     public void clearCache(@NotNull LivingEntity entity) {
-        EnchantRegistry.getHolders().forEach(holder -> {
-            if (!holder.isCacheable()) return;
+        this.equipmentSnapshots.remove(entity.getUniqueId());
+    }
 
-            holder.clearCache(entity);
-        });
+    /**
+     * Drops equipment snapshot of entity that is not tracked by slot events, so it will be parsed again on next access.
+     */
+    public void invalidateCache(@NotNull LivingEntity entity) {
+        if (this.isSlotTracked(entity)) return;
+
+        this.clearCache(entity);
+    }
+
+    public void invalidateCache(@NotNull LivingEntity entity, @NotNull EquipmentSlot slot) {
+        if (this.isSlotTracked(entity)) return;
+
+        EquipmentEnchantSnapshot snapshot = this.getEquipmentSnapshot(entity);
+        if (snapshot != null) snapshot.set(slot, null);
+    }
+
+    @Nullable
+    public EquipmentEnchantSnapshot getEquipmentSnapshot(@NotNull LivingEntity entity) {
+        return this.equipmentSnapshots.get(entity.getUniqueId());
+    }
+
+    public void flushCharges(@NotNull Player player) {
+        this.flushCharges(player, Collections.emptyList());
+    }
+
+    public boolean flushCharges(@NotNull Player player, @NotNull Collection<ItemStack> extra) {
+        return this.deferredCharges.flush(player, extra);
+    }
+
+    private void flushDeferredCharges() {
+        for (UUID playerId : this.deferredCharges.getOwners()) {
+            Player player = this.plugin.getServer().getPlayer(playerId);
+            if (player == null) continue;
+
+            this.plugin.runAtEntity(player, task -> this.flushCharges(player));
+        }
+    }
+
+    private boolean isChargesDeferred(@NotNull LivingEntity entity, @NotNull EnchantHolder<?> holder) {
+        if (!(entity instanceof Player) || !Config.isChargesDeferred()) return false;
+
+        return holder == EnchantRegistry.MINING || holder == EnchantRegistry.ATTACK;
     }
 
     public void openEnchantsMenu(@NotNull Player player) {
@@ -165,6 +361,8 @@ public class EnchantManager extends AbstractManager<EnchantsPlugin> {
     }
 
     private void tickArrowEffects() {
+        if (!this.tickGovernor.isDue(++this.arrowEffectRuns)) return;
+
         this.arrowEffects.keySet().removeIf(arrow -> !arrow.isValid() || arrow.isDead());
         this.arrowEffects.forEach((arrow, effects) -> {
             effects.forEach(particle -> particle.play(arrow.getLocation(), 0f, 0f, 10));
@@ -172,8 +370,14 @@ public class EnchantManager extends AbstractManager<EnchantsPlugin> {
     }
 
     private void tickBlocks() {
+        this.pendingBlockTicks++;
+        if (!this.tickGovernor.isDue(this.currentTick)) return;
+
+        int ticks = this.pendingBlockTicks;
+        this.pendingBlockTicks = 0;
+
         this.tickedBlocks.values().removeIf(tickedBlock -> {
-            tickedBlock.tick();
+            tickedBlock.tick(ticks);
             return tickedBlock.isDead();
         });
     }
@@ -183,28 +387,265 @@ public class EnchantManager extends AbstractManager<EnchantsPlugin> {
     }
 
     private void tickPassiveEnchants() {
-        // For Folia compatibility: schedule per-entity tasks instead of global iteration
-        this.getPassiveEnchantEntities().forEach(entity -> {
-            // Use FoliaLib for Folia-compatible entity scheduling
-            this.plugin.runAtEntity(entity, __ -> {
-                this.handleCached(entity, EntityUtil.EQUIPMENT_SLOTS, EnchantRegistry.PASSIVE, (item, enchant, level) -> enchant.onTrigger(entity, item, level));
+        this.dispatchPassiveEnchants();
+        this.tickGovernor.drain();
+    }
+
+    private void dispatchPassiveEnchants() {
+        List<PassiveEntry> dueEntries = this.passiveWheel.advance(this.currentTick);
+        if (dueEntries.isEmpty()) return;
+
+        Map<PassiveEntity, List<PassiveEntry>> ownerEntries = new IdentityHashMap<>();
+
+        for (PassiveEntry entry : dueEntries) {
+            PassiveEntity owner = entry.getOwner();
+            if (!owner.isActive()) continue;
+
+            // Stretch is applied to the next period only, so entries return to their interval once the server recovers.
+            entry.setDueTick(entry.getDueTick() + entry.getInterval() * this.tickGovernor.getStretch());
+            this.passiveWheel.schedule(entry);
+
+            ownerEntries.computeIfAbsent(owner, k -> new ArrayList<>()).add(entry);
+        }
+
+        if (!this.plugin.isFolia()) {
+            PassiveLod lod = this.createPassiveLod();
+
+            ownerEntries.forEach((owner, entries) -> {
+                List<PassiveEnchant> enchants = this.selectPassiveEnchants(owner, entries, lod);
+                if (enchants == null) return;
+
+                // Passive tick runs on the main thread, so entities are handled within the tick budget.
+                // Enchantments of an entity still waiting from previous dispatches are merged into a single trigger.
+                LivingEntity entity = owner.getEntity();
+                owner.addQueued(enchants);
+                this.tickGovernor.submit(owner, () -> this.triggerPassiveEnchants(entity, owner.takeQueued()));
             });
+            return;
+        }
+
+        // For Folia compatibility: entities are not accessed from the global thread. They are grouped by their last known
+        // location into one region task per chunk section, and checked in that task (or by the entity scheduler).
+        Map<World, Map<Long, PassiveBatch>> batches = new IdentityHashMap<>();
+
+        ownerEntries.forEach((owner, entries) -> {
+            Location location = owner.getLastLocation();
+            World world = location == null ? null : location.getWorld();
+            if (world == null) {
+                this.plugin.runAtEntity(owner.getEntity(), task -> this.triggerPassiveEntries(owner, entries, this.createPassiveLod()));
+                return;
+            }
+
+            batches.computeIfAbsent(world, k -> new HashMap<>())
+                .computeIfAbsent(PassiveBatch.getSectionKey(location), k -> new PassiveBatch(location))
+                .add(owner, entries);
         });
+
+        batches.values().forEach(sections -> sections.values().forEach(batch -> {
+            this.plugin.runAtLocation(batch.getLocation(), __ -> {
+                PassiveLod lod = this.createPassiveLod();
+
+                for (int index = 0; index < batch.size(); index++) {
+                    PassiveEntity owner = batch.getOwner(index);
+                    List<PassiveEntry> entries = batch.getEntries(index);
+
+                    if (this.plugin.isOwnedByCurrentRegion(owner.getEntity())) {
+                        this.triggerPassiveEntries(owner, entries, lod);
+                    }
+                    else {
+                        // Entity is in another region than the batch section, fallback to the entity scheduler.
+                        this.plugin.runAtEntity(owner.getEntity(), task -> this.triggerPassiveEntries(owner, entries, this.createPassiveLod()));
+                    }
+                }
+            });
+        }));
     }
 
-    @NotNull
-    private Set<LivingEntity> getPassiveEnchantEntities() {
-        Set<LivingEntity> entities = new HashSet<>(Players.getOnline());
+    /**
+     * Must be called on the entity's thread.
+     */
+    private void triggerPassiveEntries(@NotNull PassiveEntity owner, @NotNull List<PassiveEntry> entries, @Nullable PassiveLod lod) {
+        List<PassiveEnchant> enchants = this.selectPassiveEnchants(owner, entries, lod);
+        if (enchants == null) return;
+
+        this.triggerPassiveEnchants(owner.getEntity(), enchants);
+    }
+
+    /**
+     * Drops registration of removed entity and applies level of detail to the due entries. Must be called on the entity's thread.
+     *
+     * @return Enchantments to trigger, or null if there are none.
+     */
+    @Nullable
+    private List<PassiveEnchant> selectPassiveEnchants(@NotNull PassiveEntity owner, @NotNull List<PassiveEntry> entries, @Nullable PassiveLod lod) {
+        LivingEntity entity = owner.getEntity();
+        if (!entity.isValid()) {
+            // Dead players keep their entries until they quit.
+            if (!(entity instanceof Player player) || !player.isOnline()) this.passiveEntities.remove(owner);
+            return null;
+        }
+
+        Location location = null;
+        if (this.plugin.isFolia()) {
+            owner.updateLastLocation();
+            location = owner.getLastLocation();
+        }
+        else if (lod != null) {
+            location = entity.getLocation();
+        }
+
+        int rate = lod == null || location == null ? 1 : lod.getRate(entity, location);
+        if (rate <= 0) return null;
+
+        List<PassiveEnchant> enchants = new ArrayList<>(entries.size());
+        for (PassiveEntry entry : entries) {
+            if (entry.nextReducedRun(rate)) enchants.add(entry.getEnchant());
+        }
+        return enchants.isEmpty() ? null : enchants;
+    }
+
+    @Nullable
+    private PassiveLod createPassiveLod() {
+        if (!Config.PASSIVE_ENCHANTS_ALLOW_FOR_MOBS.get() || !Config.PASSIVE_ENCHANTS_LOD_ENABLED.get()) return null;
 
-        if (Config.PASSIVE_ENCHANTS_ALLOW_FOR_MOBS.get()) {
-            this.plugin.getServer().getWorlds().forEach(world -> {
-                entities.addAll(world.getLivingEntities());
+        return new PassiveLod(
+            Config.PASSIVE_ENCHANTS_LOD_NEAR_DISTANCE.get(),
+            Config.PASSIVE_ENCHANTS_LOD_FAR_DISTANCE.get(),
+            Config.PASSIVE_ENCHANTS_LOD_REDUCED_RATE.get(),
+            this.plugin.isFolia() ? this.playerPositions : null
+        );
+    }
+
+    /**
+     * Updates last known positions of players on their own threads, for passive level of detail on Folia.
+     */
+    private void updatePlayerPositions() {
+        this.playerPositions.rebuild();
+        Players.getOnline().forEach(player -> this.plugin.runAtEntity(player, task -> this.playerPositions.update(player)));
+    }
+
+    private void triggerPassiveEnchants(@NotNull LivingEntity entity, @NotNull List<PassiveEnchant> enchants) {
+        if (!entity.isValid()) return;
+
+        this.handleCached(entity, EntityUtil.EQUIPMENT_SLOTS, EnchantRegistry.PASSIVE, (item, enchant, level) -> {
+            return enchants.contains(enchant) && enchant.onTrigger(entity, item, level);
+        });
+    }
+
+    private void registerPassiveEntity(@NotNull LivingEntity entity, @NotNull List<PassiveEnchant> enchants) {
+        PassiveEntity present = this.passiveEntities.get(entity);
+        if (present != null && present.getEnchants().equals(enchants)) return;
+
+        PassiveEntity registration = this.passiveEntities.add(entity, enchants);
+        if (this.plugin.isFolia()) registration.updateLastLocation();
+
+        // All entries of an entity share its phase, so enchantments with equal intervals are due in the same dispatch,
+        // while different entities are spread over the interval. Phase is bound to absolute ticks to survive re-registration.
+        int phase = entity.getUniqueId().hashCode();
+        long nextTick = this.currentTick + 1;
+
+        for (PassiveEnchant enchant : enchants) {
+            long interval = this.getPassiveInterval(enchant);
+            long offset = Math.floorMod(phase - nextTick, interval);
+
+            this.passiveWheel.schedule(new PassiveEntry(registration, enchant, interval, nextTick + offset));
+        }
+    }
+
+    private long getPassiveInterval(@NotNull PassiveEnchant enchant) {
+        long seconds = enchant.hasComponent(EnchantComponent.PERIODIC) ? enchant.getComponent(EnchantComponent.PERIODIC).getInterval() : Config.PASSIVE_ENCHANTS_TICK_INTERVAL.get();
+
+        return Math.max(1L, seconds) * 20L;
+    }
+
+    /**
+     * Fills passive entities registry with entities already present on the server (plugin reload).
+     * Entities spawned or loaded later are added by the passive listener.
+     */
+    private void loadPassiveEntities() {
+        Players.getOnline().forEach(this::updatePassiveEntity);
+
+        if (!Config.PASSIVE_ENCHANTS_ALLOW_FOR_MOBS.get()) return;
+
+        this.plugin.getServer().getWorlds().forEach(world -> {
+            world.getLivingEntities().forEach(entity -> {
+                if (entity instanceof Player) return;
+
+                this.plugin.runAtEntity(entity, task -> this.updatePassiveEntity(entity));
+            });
+        });
+    }
+
+    /**
+     * Updates passive registrations of all loaded mobs. There are no equipment change events on Spigot,
+     * so mobs that got enchanted equipment after spawn, load or pickup are registered by this periodic rescan.
+     */
+    private void rescanPassiveMobs() {
+        this.plugin.getServer().getWorlds().forEach(world -> {
+            world.getLivingEntities().forEach(entity -> {
+                if (entity instanceof Player) return;
+
+                this.updatePassiveEntity(entity);
             });
+        });
+    }
+
+    /**
+     * Adds entity to the passive entities registry with passive enchantments of its equipment, or removes it if there are none.
+     * Must be called on the entity's thread, and again when the entity's equipment changes.
+     */
+    public void updatePassiveEntity(@NotNull LivingEntity entity) {
+        if (EnchantRegistry.PASSIVE.isEmpty()) return;
+
+        List<PassiveEnchant> enchants = null;
+        if (entity instanceof Player || Config.PASSIVE_ENCHANTS_ALLOW_FOR_MOBS.get()) {
+            enchants = this.getEquippedPassiveEnchants(entity);
         }
 
-        entities.removeIf(Entity::isDead);
+        if (enchants == null || enchants.isEmpty()) {
+            this.passiveEntities.remove(entity);
+        }
+        else {
+            this.registerPassiveEntity(entity, enchants);
+        }
+    }
 
-        return entities;
+    public void removePassiveEntity(@NotNull LivingEntity entity) {
+        this.passiveEntities.remove(entity);
+        if (entity instanceof Player player) this.playerPositions.remove(player);
+    }
+
+    @NotNull
+    private List<PassiveEnchant> getEquippedPassiveEnchants(@NotNull LivingEntity entity) {
+        // There are no equipment change events for Spigot players, so all passive enchantments stay scheduled for them.
+        if (entity instanceof Player && !this.isSlotTracked(entity)) {
+            return new ArrayList<>(EnchantRegistry.PASSIVE.getEnchants());
+        }
+
+        EquipmentEnchantSnapshot snapshot = this.isSlotTracked(entity) ? this.getEquipmentSnapshot(entity) : null;
+        EquipmentSlot[] slots = EntityUtil.EQUIPMENT_SLOTS;
+        EnchantedItem<?>[] items = new EnchantedItem<?>[slots.length];
+        boolean hasItems = false;
+
+        for (int index = 0; index < slots.length; index++) {
+            EnchantedItem<?> enchantedItem = snapshot != null ? snapshot.get(slots[index]) : this.getLiveItem(entity, slots[index]);
+            if (enchantedItem == null || !EnchantRegistry.PASSIVE.matches(enchantedItem)) continue;
+
+            items[index] = enchantedItem;
+            hasItems = true;
+        }
+        if (!hasItems) return Collections.emptyList();
+
+        List<PassiveEnchant> enchants = new ArrayList<>();
+        for (PassiveEnchant enchant : EnchantRegistry.PASSIVE.getEnchants()) {
+            for (EnchantedItem<?> enchantedItem : items) {
+                if (enchantedItem != null && enchantedItem.contains(enchant)) {
+                    enchants.add(enchant);
+                    break;
+                }
+            }
+        }
+        return enchants;
     }
 
     public void addTickedBlock(@NotNull Block block, @NotNull Material origin, @NotNull Material transform, int lifeTime) {
@@ -254,12 +695,26 @@ public class EnchantManager extends AbstractManager<EnchantsPlugin> {
 
     private static final EquipmentSlot[] ARMOR_SLOTS = {EquipmentSlot.HEAD, EquipmentSlot.CHEST, EquipmentSlot.LEGS, EquipmentSlot.FEET, EquipmentSlot.OFF_HAND};
 
+    private static final int PERIODIC_MASK    = EnchantComponent.PERIODIC.getMask();
+    private static final int PROBABILITY_MASK = EnchantComponent.PROBABILITY.getMask();
+    private static final int COOLDOWN_MASK    = EnchantComponent.COOLDOWN.getMask();
+
     public <T extends CustomEnchantment> void handleArmorEnchants(@NotNull LivingEntity entity, @NotNull EnchantHolder<T> holder, @NotNull EnchantUsage<T> usage) {
         this.handleCached(entity, ARMOR_SLOTS, holder, usage);
     }
 
     public <T extends CustomEnchantment> void handleInventoryEnchants(@NotNull Player player, @NotNull EnchantHolder<T> holder, @NotNull EnchantUsage<T> usage) {
-        this.handleFully(player, EnchantUtils.getAll(player, holder), holder::getPriority, usage);
+        // Inventory is scanned without filling the memo, so it doesn't evict items of the action that caused the scan.
+        TickItemMemo memo = TickItemMemo.get(this.currentTick);
+
+        for (ItemStack itemStack : player.getInventory().getContents()) {
+            if (itemStack == null || itemStack.getType().isAir()) continue;
+
+            EnchantedItem<?> enchantedItem = memo.parse(itemStack, false);
+            if (enchantedItem == null || !holder.matches(enchantedItem)) continue;
+
+            this.handleFully(player, itemStack, enchantedItem, holder, usage);
+        }
     }
 
     public <T extends CustomEnchantment> void handleItemEnchants(@NotNull LivingEntity entity,
@@ -273,10 +728,10 @@ public class EnchantManager extends AbstractManager<EnchantsPlugin> {
                                                                  @NotNull ItemStack itemStack,
                                                                  @NotNull EnchantHolder<T> holder,
                                                                  @NotNull EnchantUsage<T> usage) {
-        Map<ItemStack, Map<T, Integer>> enchants = new HashMap<>();
-        enchants.put(itemStack, EnchantUtils.getCustomEnchantments(itemStack, holder));
+        EnchantedItem<?> enchantedItem = this.parseItem(itemStack);
+        if (enchantedItem == null || !holder.matches(enchantedItem)) return;
 
-        this.handleFully(entity, enchants, holder::getPriority, usage);
+        this.handleFully(entity, itemStack, enchantedItem, holder, usage);
     }
 
     public <P extends AbstractArrow, T extends ProjectileEnchant<P>> void handleArrowEnchants(@NotNull P projectile,
@@ -285,65 +740,175 @@ public class EnchantManager extends AbstractManager<EnchantsPlugin> {
         ItemStack bow = projectile.getWeapon();
         if (bow == null || !EnchantUtils.isEquipment(bow)) return;
 
-        Map<ItemStack, Map<T, Integer>> enchants = new HashMap<>();
-        enchants.put(bow, EnchantUtils.getArrowEnchants(projectile, holder));
+        EnchantedItem<?> enchantedItem = EnchantUtils.getArrowEnchants(projectile, bow, holder);
+        if (enchantedItem == null) return;
 
-        this.handleDirect(enchants, holder::getPriority, usage);
+        this.handleDirect(enchantedItem, holder, usage);
     }
 
     public <T extends CustomEnchantment> void handleCached(@NotNull LivingEntity entity,
                                                            @NotNull EquipmentSlot[] slots,
                                                            @NotNull EnchantHolder<T> holder,
                                                            @NotNull EnchantUsage<T> usage) {
+        if (WorldAvailability.isAllDisabled(entity.getWorld())) return;
 
-        Map<ItemStack, Map<T, Integer>> enchantMap = new HashMap<>();
-        boolean noCache = entity.getType() != EntityType.PLAYER || !holder.isCacheable() || Version.isSpigot();
-
-        for (EquipmentSlot slot : slots) {
-            if (noCache || slot == EquipmentSlot.HAND) {
+        if (!holder.isCacheable()) {
+            for (EquipmentSlot slot : slots) {
                 ItemStack itemStack = EntityUtil.getItemInSlot(entity, slot);
                 if (itemStack == null || itemStack.getType().isAir() || !EnchantUtils.isEquipment(itemStack)) continue;
 
-                enchantMap.put(itemStack, EnchantUtils.getCustomEnchantments(itemStack, holder));
+                EnchantedItem<?> enchantedItem = this.parseItem(itemStack);
+                if (enchantedItem == null || !holder.matches(enchantedItem)) continue;
+
+                this.handleFully(entity, itemStack, enchantedItem, holder, usage);
             }
-            else {
-                EnchantedItem<T> enchantedItem = holder.getCached(entity, slot);
-                if (enchantedItem == null) continue;
+            return;
+        }
 
-                enchantMap.put(enchantedItem.getItemStack(), enchantedItem.getEnchants());
+        boolean tracked = this.isSlotTracked(entity);
+        EquipmentEnchantSnapshot snapshot;
+        ItemStack liveHand = null;
+        if (tracked) {
+            snapshot = this.getEquipmentSnapshot(entity);
+            if (snapshot == null) {
+                // Not cached yet (e.g. plugin reload), build it now instead of treating as no enchants.
+                if (!((Player) entity).isOnline()) return;
+
+                this.cacheEquipment(entity);
+                snapshot = this.getEquipmentSnapshot(entity);
+                if (snapshot == null) return;
             }
+            if (Lists.contains(slots, EquipmentSlot.HAND)) liveHand = this.validateHeldSlot((Player) entity, snapshot);
+            if (!snapshot.hasHolder(slots, holder)) return;
+        }
+        else {
+            snapshot = this.equipmentSnapshots.computeIfAbsent(entity.getUniqueId(), k -> new EquipmentEnchantSnapshot(entity, true));
+        }
+
+        for (EquipmentSlot slot : slots) {
+            EnchantedItem<?> enchantedItem;
+            ItemStack itemStack;
+
+            if (tracked) {
+                enchantedItem = snapshot.get(slot, holder);
+                itemStack = slot == EquipmentSlot.HAND && liveHand != null ? liveHand : (enchantedItem == null ? null : enchantedItem.getItemStack());
+            }
+            else {
+                itemStack = EntityUtil.getItemInSlot(entity, slot);
+                enchantedItem = this.getValidatedItem(snapshot, slot, itemStack);
+            }
+            if (enchantedItem == null || itemStack == null || !holder.matches(enchantedItem)) continue;
+
+            // Cached enchantments may be parsed from an equal copy, usages must write into the live item.
+            this.handleFully(entity, itemStack, enchantedItem, holder, usage);
+        }
+    }
+
+    @Nullable
+    private EnchantedItem<?> getLiveItem(@NotNull LivingEntity entity, @NotNull EquipmentSlot slot) {
+        ItemStack itemStack = EntityUtil.getItemInSlot(entity, slot);
+        if (itemStack == null || itemStack.getType().isAir() || !EnchantUtils.isEquipment(itemStack)) return null;
+
+        return EnchantUtils.getEnchantedItem(itemStack);
+    }
+
+    /**
+     * Recaches main hand item if player holds another hotbar slot than the cached one, or if the item in hand differs from
+     * the cached one, as other plugins can replace it (e.g. setItemInMainHand) without a slot change event.
+     * The check is a type and amount comparison with the cached copy, followed by a components comparison only for equal items.
+     *
+     * @return Current main hand item, which usages must write into.
+     */
+    @Nullable
+    private ItemStack validateHeldSlot(@NotNull Player player, @NotNull EquipmentEnchantSnapshot snapshot) {
+        int heldSlot = player.getInventory().getHeldItemSlot();
+        ItemStack itemStack = EntityUtil.getItemInSlot(player, EquipmentSlot.HAND);
+
+        if (snapshot.getHeldSlot() == heldSlot) {
+            ItemStack source = snapshot.getSource(EquipmentSlot.HAND);
+            if (source == null ? itemStack == null : itemStack != null && isSameItem(source, itemStack)) return itemStack;
         }
 
-        this.handleFully(entity, enchantMap, holder::getPriority, usage);
+        this.updateHeldCache(player, heldSlot, itemStack);
+        return itemStack;
     }
 
     public <T extends CustomEnchantment> void handleFully(@NotNull LivingEntity entity,
-                                                          @NotNull Map<ItemStack, Map<T, Integer>> enchantMap,
-                                                          @NotNull Function<T, EnchantPriority> priority,
+                                                          @NotNull EnchantedItem<?> enchantedItem,
+                                                          @NotNull EnchantHolder<T> holder,
                                                           @NotNull EnchantUsage<T> usage) {
+        this.handleFully(entity, enchantedItem.getItemStack(), enchantedItem, holder, usage);
+    }
+
+    private <T extends CustomEnchantment> void handleFully(@NotNull LivingEntity entity,
+                                                           @NotNull ItemStack itemStack,
+                                                           @NotNull EnchantedItem<?> enchantedItem,
+                                                           @NotNull EnchantHolder<T> holder,
+                                                           @NotNull EnchantUsage<T> usage) {
+        if (WorldAvailability.isAllDisabled(entity.getWorld())) return;
 
-        this.handleDirect(enchantMap, priority, (itemStack, enchant, level) -> {
-            if (!enchant.isAvailableToUse(entity)) return false;
-            if (enchant.isOutOfCharges(itemStack)) return false;
-            if (enchant.hasComponent(EnchantComponent.PERIODIC) && !enchant.isTriggerTime(entity)) return false;
-            if (enchant.hasComponent(EnchantComponent.PROBABILITY) && !enchant.testTriggerChance(level)) return false;
-            if (!usage.useEnchant(itemStack, enchant, level)) return false;
+        List<List<T>> plan = holder.getDispatchPlan();
+        boolean deferred = this.isChargesDeferred(entity, holder);
 
-            enchant.consumeCharges(itemStack, level); // TODO Re-add equipment for mobs to apply changes
-            return true;
-        });
+        ChargesLedger ledger = null;
+        if (deferred) {
+            ledger = this.deferredCharges.getLedger((Player) entity, itemStack);
+        }
+        else if (Config.isChargesEnabled()) {
+            ledger = new ChargesLedger(itemStack);
+        }
+
+        for (int bucketIndex = 0; bucketIndex < plan.size(); bucketIndex++) {
+            List<T> bucket = plan.get(bucketIndex);
+
+            for (int index = 0; index < bucket.size(); index++) {
+                T enchant = bucket.get(index);
+                int level = enchantedItem.getLevel(enchant);
+                if (level <= 0) continue;
+
+                if (!enchant.isAvailableToUse(entity)) continue;
+                if (ledger != null && ledger.isOutOfCharges(enchant)) continue;
+                int components = enchant.getComponentMask();
+                // Passive enchantments are triggered by their period in the passive wheel.
+                if ((components & PERIODIC_MASK) != 0 && holder != EnchantRegistry.PASSIVE && !enchant.isTriggerTime(entity)) continue;
+                if ((components & COOLDOWN_MASK) != 0 && this.cooldowns.isOnCooldown(entity.getEntityId(), enchant.getOrdinal(), this.currentTick)) continue;
+                if ((components & PROBABILITY_MASK) != 0 && !enchant.testTriggerChance(level)) continue;
+                if (!usage.useEnchant(itemStack, enchant, level)) continue;
+
+                if (ledger != null) ledger.consume(enchant, level);
+                if ((components & COOLDOWN_MASK) != 0) this.startCooldown(entity, enchant, level);
+            }
+        }
+
+        if (deferred) {
+            this.deferredCharges.commit((Player) entity, ledger);
+        }
+        else if (ledger != null) ledger.flush(); // TODO Re-add equipment for mobs to apply changes
+    }
+
+    private void startCooldown(@NotNull LivingEntity entity, @NotNull CustomEnchantment enchant, int level) {
+        long ticks = enchant.getComponent(EnchantComponent.COOLDOWN).getTicks(level);
+        if (ticks <= 0L) return;
+
+        this.cooldowns.setCooldown(entity.getEntityId(), enchant.getOrdinal(), this.currentTick + ticks);
     }
 
-    public <T extends CustomEnchantment> void handleDirect(@NotNull Map<ItemStack, Map<T, Integer>> enchantMap,
-                                                           @NotNull Function<T, EnchantPriority> priority,
+    public <T extends CustomEnchantment> void handleDirect(@NotNull EnchantedItem<?> enchantedItem,
+                                                           @NotNull EnchantHolder<T> holder,
                                                            @NotNull EnchantUsage<T> usage) {
-        enchantMap.forEach((itemStack, enchants) -> {
-            enchants.entrySet().stream().sorted(Comparator.comparingInt(entry -> priority.apply(entry.getKey()).ordinal())).forEach(entry -> {
-                T enchant = entry.getKey();
-                int level = entry.getValue();
+        ItemStack itemStack = enchantedItem.getItemStack();
+        List<List<T>> plan = holder.getDispatchPlan();
+
+        for (int bucketIndex = 0; bucketIndex < plan.size(); bucketIndex++) {
+            List<T> bucket = plan.get(bucketIndex);
+
+            for (int index = 0; index < bucket.size(); index++) {
+                T enchant = bucket.get(index);
+                int level = enchantedItem.getLevel(enchant);
+                if (level <= 0) continue;
 
                 usage.useEnchant(itemStack, enchant, level);
-            });
-        });
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -41,7 +41,11 @@ public class TickedBlock {
     }
 
     public void tick() {
-        this.livedTicks++;
+        this.tick(1);
+    }
+
+    public void tick(int ticks) {
+        this.livedTicks += ticks;
 
         if (this.isDead()) {
             Location location = LocationUtil.setCenter3D(this.location);
@@ -0,0 +1,138 @@
+package su.nightexpress.excellentenchants.manager.charges;
+
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import su.nightexpress.excellentenchants.api.enchantment.CustomEnchantment;
+import su.nightexpress.excellentenchants.config.Keys;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Collects charges reads and consumption of a single enchant dispatch on one item.
+ * <p>
+ * Charges are read from one meta copy taken on first access, consumption is kept in memory as amounts consumed
+ * and written back by {@link #flush()} with a single meta read and write. Charges are read again on flush and reduced
+ * by the consumed amount, so item changes made in between (usages, recharge, refuel) are preserved.
+ * <p>
+ * Deferred ledgers are bound to the stable item id and live across dispatches until flushed, see {@link DeferredCharges}.
+ * The id is removed from the item on flush.
+ */
+public class ChargesLedger {
+
+    private UUID                itemId;
+    private ItemStack           itemStack;
+    private ItemMeta            readMeta;
+    private CustomEnchantment[] enchants;
+    private int[]               levels;
+    private int[]               consumed;
+    private int                 size;
+
+    public ChargesLedger(@NotNull ItemStack itemStack) {
+        this.itemStack = itemStack;
+    }
+
+    @NotNull
+    public ItemStack getItemStack() {
+        return this.itemStack;
+    }
+
+    public void setItemStack(@NotNull ItemStack itemStack) {
+        this.itemStack = itemStack;
+    }
+
+    @Nullable
+    public UUID getItemId() {
+        return this.itemId;
+    }
+
+    public void setItemId(@Nullable UUID itemId) {
+        this.itemId = itemId;
+    }
+
+    public boolean hasConsumed() {
+        return this.size > 0;
+    }
+
+    public int getCharges(@NotNull CustomEnchantment enchant) {
+        if (!enchant.isChargeable()) return -1;
+
+        if (this.readMeta == null) {
+            this.readMeta = this.itemStack.getItemMeta();
+            if (this.readMeta == null) return 0;
+        }
+
+        int charges = enchant.getCharges(this.readMeta);
+        for (int index = 0; index < this.size; index++) {
+            if (this.enchants[index] == enchant) return Math.max(0, charges - this.consumed[index]);
+        }
+        return charges;
+    }
+
+    public boolean isOutOfCharges(@NotNull CustomEnchantment enchant) {
+        return enchant.isChargeable() && this.getCharges(enchant) == 0;
+    }
+
+    public void consume(@NotNull CustomEnchantment enchant, int level) {
+        if (!enchant.isChargeable()) return;
+
+        int has = this.getCharges(enchant);
+        int consumeAmount = enchant.getCharges().getConsumeAmount();
+        int left = has < consumeAmount ? 0 : Math.max(0, has - consumeAmount);
+        int amount = has - left;
+
+        for (int index = 0; index < this.size; index++) {
+            if (this.enchants[index] == enchant) {
+                this.levels[index] = level;
+                this.consumed[index] += amount;
+                return;
+            }
+        }
+
+        if (this.enchants == null) {
+            this.enchants = new CustomEnchantment[4];
+            this.levels = new int[4];
+            this.consumed = new int[4];
+        }
+        else if (this.size == this.enchants.length) {
+            this.enchants = Arrays.copyOf(this.enchants, this.size * 2);
+            this.levels = Arrays.copyOf(this.levels, this.size * 2);
+            this.consumed = Arrays.copyOf(this.consumed, this.size * 2);
+        }
+
+        this.enchants[this.size] = enchant;
+        this.levels[this.size] = level;
+        this.consumed[this.size] = amount;
+        this.size++;
+    }
+
+    /**
+     * Writes consumed charges into the item, if there are any.
+     */
+    public void flush() {
+        this.flush(this.itemStack);
+    }
+
+    public void flush(@NotNull ItemStack target) {
+        if (this.size == 0) return;
+
+        ItemMeta meta = target.getItemMeta();
+        if (meta != null) {
+            for (int index = 0; index < this.size; index++) {
+                CustomEnchantment enchant = this.enchants[index];
+                int charges = Math.max(0, enchant.getCharges(meta) - this.consumed[index]);
+
+                enchant.setCharges(meta, this.levels[index], charges);
+            }
+            if (this.itemId != null) {
+                meta.getPersistentDataContainer().remove(Keys.itemChargesId);
+            }
+            target.setItemMeta(meta);
+        }
+
+        this.readMeta = null;
+        this.size = 0;
+    }
+}
@@ -0,0 +1,145 @@
+package su.nightexpress.excellentenchants.manager.charges;
+
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.config.Keys;
+import su.nightexpress.nightcore.util.PDCUtil;
+import su.nightexpress.nightcore.util.Version;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps charges consumed by players in memory, per item, until they are flushed into the items.
+ * Items are identified by a random id written into their PDC on the first deferred consumption, and removed from it on flush.
+ * Live items are new mirrors on each access, so ledgers are mostly found by the id. On Paper it's read from the item's
+ * data container view, without a meta copy.
+ * <p>
+ * Ledgers of a player are accessed on the player's thread only, the outer map is shared between regions on Folia.
+ */
+public class DeferredCharges {
+
+    private final EnchantsPlugin                 plugin;
+    private final Map<UUID, List<ChargesLedger>> ledgers;
+
+    public DeferredCharges(@NotNull EnchantsPlugin plugin) {
+        this.plugin = plugin;
+        this.ledgers = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return Pending ledger of the item, or a new detached ledger if the item has no pending charges.
+     * Detached ledgers are kept only when they consume charges, see {@link #commit(Player, ChargesLedger)}.
+     */
+    @NotNull
+    public ChargesLedger getLedger(@NotNull Player player, @NotNull ItemStack itemStack) {
+        List<ChargesLedger> list = this.ledgers.get(player.getUniqueId());
+        if (list != null && !list.isEmpty()) {
+            for (ChargesLedger ledger : list) {
+                if (ledger.getItemStack() == itemStack) return ledger;
+            }
+
+            UUID itemId = getItemId(itemStack);
+            if (itemId != null) {
+                for (ChargesLedger ledger : list) {
+                    if (itemId.equals(ledger.getItemId())) {
+                        ledger.setItemStack(itemStack);
+                        return ledger;
+                    }
+                }
+            }
+        }
+
+        return new ChargesLedger(itemStack);
+    }
+
+    /**
+     * Keeps a detached ledger until flush if it has consumed charges, writing the item id into the item.
+     * Items that never had charges consumed are left untouched.
+     */
+    public void commit(@NotNull Player player, @NotNull ChargesLedger ledger) {
+        if (ledger.getItemId() != null || !ledger.hasConsumed()) return;
+
+        ItemStack itemStack = ledger.getItemStack();
+        UUID itemId = getItemId(itemStack);
+        if (itemId == null) {
+            itemId = UUID.randomUUID();
+            PDCUtil.set(itemStack, Keys.itemChargesId, itemId.toString());
+        }
+
+        ledger.setItemId(itemId);
+        this.ledgers.computeIfAbsent(player.getUniqueId(), k -> new ArrayList<>()).add(ledger);
+    }
+
+    @NotNull
+    public Set<UUID> getOwners() {
+        return this.ledgers.keySet();
+    }
+
+    /**
+     * Writes pending charges of the player into matching items of the player's inventory, or of the extra items if specified.
+     * Extra items are checked first, they are used for items that have already left the inventory (drops).
+     * Item on cursor and items of the open inventory are checked last. Charges of items that are not found are lost and logged.
+     *
+     * @return True if player had pending charges.
+     */
+    public boolean flush(@NotNull Player player, @NotNull Collection<ItemStack> extra) {
+        List<ChargesLedger> list = this.ledgers.remove(player.getUniqueId());
+        if (list == null) return false;
+
+        for (ChargesLedger ledger : list) {
+            UUID itemId = ledger.getItemId();
+            if (itemId == null) continue;
+
+            ItemStack target = findItem(itemId, extra);
+            if (target == null) target = findItem(itemId, Arrays.asList(player.getInventory().getContents()));
+            if (target == null) target = findItem(itemId, Collections.singletonList(player.getItemOnCursor()));
+            if (target == null) target = findItem(itemId, Arrays.asList(player.getOpenInventory().getTopInventory().getContents()));
+            if (target == null) {
+                this.plugin.warn("Could not write deferred charges of " + player.getName() + ": item " + itemId + " is not found.");
+                continue;
+            }
+
+            ledger.flush(target);
+        }
+        return true;
+    }
+
+    public void clear() {
+        this.ledgers.clear();
+    }
+
+    @Nullable
+    private static ItemStack findItem(@NotNull UUID itemId, @NotNull Collection<ItemStack> items) {
+        for (ItemStack itemStack : items) {
+            if (itemStack == null || itemStack.getType().isAir() || !itemStack.hasItemMeta()) continue;
+
+            if (itemId.equals(getItemId(itemStack))) return itemStack;
+        }
+        return null;
+    }
+
+    @Nullable
+    private static UUID getItemId(@NotNull ItemStack itemStack) {
+        String raw;
+        if (Version.isPaper()) {
+            raw = itemStack.getPersistentDataContainer().get(Keys.itemChargesId, PersistentDataType.STRING);
+        }
+        else {
+            raw = PDCUtil.getString(itemStack, Keys.itemChargesId).orElse(null);
+        }
+
+        if (raw == null) return null;
+
+        try {
+            return UUID.fromString(raw);
+        }
+        catch (IllegalArgumentException exception) {
+            return null;
+        }
+    }
+}
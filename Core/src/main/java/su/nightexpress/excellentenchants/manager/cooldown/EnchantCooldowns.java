@@ -0,0 +1,109 @@
+package su.nightexpress.excellentenchants.manager.cooldown;
+
+import java.util.Arrays;
+
+/**
+ * Per-entity enchantment cooldowns, stored as expiry ticks in an open addressing map keyed by entity id and enchantment ordinal.
+ * Keys and values are kept in primitive arrays, so no boxing or entry objects are created on lookups and updates.
+ * <p>
+ * Entity ids are not reused while the server is running, so entries of removed entities simply expire and are dropped by {@link #purge(long)}.
+ */
+public class EnchantCooldowns {
+
+    private static final long EMPTY            = Long.MIN_VALUE;
+    private static final int  DEFAULT_CAPACITY = 64;
+
+    private long[] keys;
+    private long[] expiries;
+    private int    size;
+
+    public EnchantCooldowns() {
+        this.allocate(DEFAULT_CAPACITY);
+    }
+
+    private static long toKey(int entityId, int ordinal) {
+        return ((long) entityId << 16) | (ordinal & 0xFFFF);
+    }
+
+    private static int hash(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.expiries = new long[capacity];
+        this.size = 0;
+        Arrays.fill(this.keys, EMPTY);
+    }
+
+    private int indexOf(long key) {
+        int mask = this.keys.length - 1;
+        int index = hash(key) & mask;
+
+        while (this.keys[index] != EMPTY && this.keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    public synchronized boolean isOnCooldown(int entityId, int ordinal, long tick) {
+        long key = toKey(entityId, ordinal);
+        int index = this.indexOf(key);
+
+        return this.keys[index] == key && this.expiries[index] > tick;
+    }
+
+    public synchronized void setCooldown(int entityId, int ordinal, long expiryTick) {
+        long key = toKey(entityId, ordinal);
+        int index = this.indexOf(key);
+
+        if (this.keys[index] != key) {
+            if ((this.size + 1) * 2 > this.keys.length) {
+                this.rehash(this.keys.length * 2, Long.MIN_VALUE);
+                index = this.indexOf(key);
+            }
+            this.keys[index] = key;
+            this.size++;
+        }
+        this.expiries[index] = expiryTick;
+    }
+
+    /**
+     * Removes all cooldowns expired by the given tick.
+     */
+    public synchronized void purge(long tick) {
+        if (this.size == 0) return;
+
+        int capacity = this.keys.length;
+        this.rehash(capacity, tick);
+
+        while (capacity > DEFAULT_CAPACITY && this.size * 8 < capacity) {
+            capacity /= 2;
+        }
+        if (capacity != this.keys.length) {
+            this.rehash(capacity, tick);
+        }
+    }
+
+    public synchronized void clear() {
+        this.allocate(DEFAULT_CAPACITY);
+    }
+
+    private void rehash(int capacity, long tick) {
+        long[] oldKeys = this.keys;
+        long[] oldExpiries = this.expiries;
+
+        this.allocate(capacity);
+
+        for (int index = 0; index < oldKeys.length; index++) {
+            long key = oldKeys[index];
+            if (key == EMPTY || oldExpiries[index] <= tick) continue;
+
+            int newIndex = this.indexOf(key);
+            this.keys[newIndex] = key;
+            this.expiries[newIndex] = oldExpiries[index];
+            this.size++;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package su.nightexpress.excellentenchants.manager.damage;
+
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.api.damage.DamageBonus;
+import su.nightexpress.excellentenchants.api.damage.DamageBonusType;
+import su.nightexpress.excellentenchants.api.enchantment.type.ProtectionEnchant;
+import su.nightexpress.excellentenchants.enchantment.EnchantRegistry;
+
+import java.util.Arrays;
+
+/**
+ * Reusable per-thread damage bonus accumulator for protection enchantments.
+ * <p>
+ * Keeps one {@link DamageBonus} per enchantment ordinal, created once via {@link ProtectionEnchant#getDamageBonus()}
+ * and reset when first touched in a pass, and sums touched bonuses into primitive scalar and normal amounts.
+ * A pass started while another one is in progress on the same thread (damage dealt from inside an enchantment)
+ * uses a temporary accumulator instead.
+ */
+public class DamageAccumulator {
+
+    private DamageBonus[] bonuses;
+    private int[]         touched;
+    private int           touchedCount;
+    private boolean       inUse;
+
+    public DamageAccumulator() {
+        this.bonuses = new DamageBonus[0];
+        this.touched = new int[8];
+    }
+
+    @NotNull
+    public DamageAccumulator begin() {
+        if (this.inUse) return new DamageAccumulator().begin();
+
+        this.inUse = true;
+        this.touchedCount = 0;
+        return this;
+    }
+
+    @NotNull
+    public DamageBonus getBonus(@NotNull ProtectionEnchant enchant) {
+        int ordinal = enchant.getOrdinal();
+        if (ordinal < 0) return enchant.getDamageBonus();
+
+        if (ordinal >= this.bonuses.length) {
+            this.bonuses = Arrays.copyOf(this.bonuses, Math.max(ordinal + 1, EnchantRegistry.getOrdinalCount()));
+        }
+
+        DamageBonus bonus = this.bonuses[ordinal];
+        if (bonus == null) {
+            bonus = enchant.getDamageBonus();
+            this.bonuses[ordinal] = bonus;
+        }
+
+        for (int index = 0; index < this.touchedCount; index++) {
+            if (this.touched[index] == ordinal) return bonus;
+        }
+
+        if (this.touchedCount == this.touched.length) {
+            this.touched = Arrays.copyOf(this.touched, this.touchedCount * 2);
+        }
+        this.touched[this.touchedCount++] = ordinal;
+
+        bonus.setBonusAmount(0D);
+        return bonus;
+    }
+
+    /**
+     * Applies summed bonuses to the event damage with a single {@link EntityDamageEvent#setDamage(double)} call.
+     */
+    public void apply(@NotNull EntityDamageEvent event) {
+        double scalarBonus = 0D;
+        double normalBonus = 0D;
+
+        for (int index = 0; index < this.touchedCount; index++) {
+            DamageBonus bonus = this.bonuses[this.touched[index]];
+            double amount = bonus.getBonusAmount();
+
+            if (bonus.getType() == DamageBonusType.MULTIPLIER) {
+                scalarBonus += amount;
+            }
+            else {
+                normalBonus += amount;
+            }
+        }
+
+        if (event.isCancelled()) return;
+        if (scalarBonus == 0D && normalBonus == 0D) return;
+
+        double scale = 1 + (scalarBonus / 100D);
+        double damageNormaled = event.getDamage() + normalBonus;
+        double damageFinal = damageNormaled * scale;
+
+        event.setDamage(Math.max(0, damageFinal));
+    }
+
+    /**
+     * Ends the pass, must be called once per {@link #begin()}.
+     */
+    public void end() {
+        this.touchedCount = 0;
+        this.inUse = false;
+    }
+}
@@ -0,0 +1,124 @@
+package su.nightexpress.excellentenchants.manager.equipment;
+
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import su.nightexpress.excellentenchants.api.EnchantedItem;
+import su.nightexpress.excellentenchants.enchantment.EnchantHolder;
+
+/**
+ * Parsed enchantments of entity's equipment, shared by all cacheable holders.
+ * Each slot item is parsed once per change, holders read their slice through the item holder mask.
+ * <p>
+ * Snapshots of entities without slot change events (mobs, Spigot players) are validated on access
+ * by comparing slot item with the item it was parsed from, see {@link #getSource(EquipmentSlot)}.
+ */
+public class EquipmentEnchantSnapshot {
+
+    private final LivingEntity       owner;
+    private final boolean            validated;
+    private final EnchantedItem<?>[] items;
+    private final ItemStack[]        sources;
+
+    private long holderMask;
+    private int  heldSlot;
+
+    public EquipmentEnchantSnapshot(@NotNull LivingEntity owner, boolean validated) {
+        int size = EquipmentSlot.values().length;
+
+        this.owner = owner;
+        this.validated = validated;
+        this.items = new EnchantedItem<?>[size];
+        this.sources = new ItemStack[size];
+        this.heldSlot = -1;
+    }
+
+    public void set(@NotNull EquipmentSlot slot, @Nullable EnchantedItem<?> enchantedItem) {
+        this.items[slot.ordinal()] = enchantedItem;
+        this.sources[slot.ordinal()] = null;
+        this.updateMask();
+    }
+
+    /**
+     * Stores a detached copy of the source item. Live items of Spigot are mirrors of the server's stack,
+     * so a stored mirror would change with the item and always compare as similar to it.
+     */
+    public void set(@NotNull EquipmentSlot slot, @Nullable EnchantedItem<?> enchantedItem, @Nullable ItemStack source) {
+        this.items[slot.ordinal()] = enchantedItem;
+        this.sources[slot.ordinal()] = source == null ? null : source.clone();
+        this.updateMask();
+    }
+
+    private void updateMask() {
+        long mask = 0L;
+        for (EnchantedItem<?> item : this.items) {
+            if (item != null) mask |= item.getHolderMask();
+        }
+        this.holderMask = mask;
+    }
+
+    /**
+     * @return Copy of the item the slot enchantments were parsed from, or null if slot is empty or was not validated yet.
+     */
+    @Nullable
+    public ItemStack getSource(@NotNull EquipmentSlot slot) {
+        return this.sources[slot.ordinal()];
+    }
+
+    @Nullable
+    public EnchantedItem<?> get(@NotNull EquipmentSlot slot) {
+        return this.items[slot.ordinal()];
+    }
+
+    @Nullable
+    public EnchantedItem<?> get(@NotNull EquipmentSlot slot, @NotNull EnchantHolder<?> holder) {
+        EnchantedItem<?> enchantedItem = this.get(slot);
+        return enchantedItem != null && holder.matches(enchantedItem) ? enchantedItem : null;
+    }
+
+    public boolean hasHolder(@NotNull EnchantHolder<?> holder) {
+        return (this.holderMask & holder.getMask()) != 0L;
+    }
+
+    public boolean hasHolder(@NotNull EquipmentSlot[] slots, @NotNull EnchantHolder<?> holder) {
+        if (!this.hasHolder(holder)) return false;
+
+        for (EquipmentSlot slot : slots) {
+            if (this.get(slot, holder) != null) return true;
+        }
+        return false;
+    }
+
+    @NotNull
+    public LivingEntity getOwner() {
+        return this.owner;
+    }
+
+    /**
+     * @return True if this snapshot is not kept up to date by slot events and must be validated on access.
+     */
+    public boolean isValidated() {
+        return this.validated;
+    }
+
+    /**
+     * @return Hotbar slot the main hand item was cached from, or -1 if main hand is not cached.
+     */
+    public int getHeldSlot() {
+        return this.heldSlot;
+    }
+
+    public void setHeldSlot(int heldSlot) {
+        this.heldSlot = heldSlot;
+    }
+
+    public long getHolderMask() {
+        return this.holderMask;
+    }
+
+    public boolean isEmpty() {
+        return this.holderMask == 0L;
+    }
+}
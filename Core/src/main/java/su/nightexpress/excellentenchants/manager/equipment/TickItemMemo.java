@@ -0,0 +1,81 @@
+package su.nightexpress.excellentenchants.manager.equipment;
+
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import su.nightexpress.excellentenchants.api.EnchantedItem;
+import su.nightexpress.excellentenchants.util.EnchantUtils;
+
+/**
+ * Remembers parsed enchantments of items for the duration of a single server tick,
+ * so events fired for the same item during one action (sweeping hits, multishot, break + drop + damage) parse it once.
+ * <p>
+ * Items are matched by content against detached copies: type and amount first, then a components comparison.
+ * Identity is not used, as Paper creates a new mirror on each access and Spigot mirrors change with the item.
+ * <p>
+ * One memo per thread: on Folia each region thread gets its own, which keeps it lock free.
+ * The memo is dropped as soon as it's accessed with another tick stamp.
+ */
+public class TickItemMemo {
+
+    private static final int SIZE = 8;
+
+    private static final ThreadLocal<TickItemMemo> LOCAL = ThreadLocal.withInitial(TickItemMemo::new);
+
+    private final ItemStack[]        keys;
+    private final EnchantedItem<?>[] values;
+
+    private long tick;
+    private int  cursor;
+
+    private TickItemMemo() {
+        this.keys = new ItemStack[SIZE];
+        this.values = new EnchantedItem<?>[SIZE];
+        this.tick = -1L;
+    }
+
+    @NotNull
+    public static TickItemMemo get(long tick) {
+        TickItemMemo memo = LOCAL.get();
+        if (memo.tick != tick) memo.reset(tick);
+
+        return memo;
+    }
+
+    /**
+     * @param remember Whether to store the result if the item is not in the memo yet. Bulk scans (whole inventory)
+     *                 should not, so they don't evict items of the current action.
+     * @return Parsed enchantments of the item. Returned instance may be parsed from an equal item,
+     * so its {@link EnchantedItem#getItemStack()} must not be used to write into the item.
+     */
+    @Nullable
+    public EnchantedItem<?> parse(@NotNull ItemStack itemStack, boolean remember) {
+        for (int index = 0; index < SIZE; index++) {
+            ItemStack key = this.keys[index];
+            if (key != null && isSameItem(key, itemStack)) return this.values[index];
+        }
+
+        EnchantedItem<?> enchantedItem = EnchantUtils.getEnchantedItem(itemStack);
+        if (remember) {
+            this.keys[this.cursor] = itemStack.clone();
+            this.values[this.cursor] = enchantedItem;
+            this.cursor = (this.cursor + 1) % SIZE;
+        }
+        return enchantedItem;
+    }
+
+    private static boolean isSameItem(@NotNull ItemStack key, @NotNull ItemStack itemStack) {
+        if (key.getType() != itemStack.getType() || key.getAmount() != itemStack.getAmount()) return false;
+
+        return key.isSimilar(itemStack);
+    }
+
+    private void reset(long tick) {
+        for (int index = 0; index < SIZE; index++) {
+            this.keys[index] = null;
+            this.values[index] = null;
+        }
+        this.tick = tick;
+        this.cursor = 0;
+    }
+}
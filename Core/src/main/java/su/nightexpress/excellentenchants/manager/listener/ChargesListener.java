@@ -0,0 +1,63 @@
+package su.nightexpress.excellentenchants.manager.listener;
+
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.manager.EnchantManager;
+import su.nightexpress.nightcore.manager.AbstractListener;
+
+import java.util.List;
+
+public class ChargesListener extends AbstractListener<EnchantsPlugin> {
+
+    private final EnchantManager manager;
+
+    public ChargesListener(@NotNull EnchantsPlugin plugin, @NotNull EnchantManager manager) {
+        super(plugin);
+        this.manager = manager;
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onChargesOpen(InventoryOpenEvent event) {
+        // Flush before anvils and other menus can read or refuel the charges.
+        if (event.getPlayer() instanceof Player player) {
+            this.manager.flushCharges(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChargesClose(InventoryCloseEvent event) {
+        if (event.getPlayer() instanceof Player player) {
+            this.manager.flushCharges(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
+    public void onChargesDrop(PlayerDropItemEvent event) {
+        Item drop = event.getItemDrop();
+        ItemStack itemStack = drop.getItemStack();
+
+        if (this.manager.flushCharges(event.getPlayer(), List.of(itemStack))) {
+            drop.setItemStack(itemStack);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onChargesDeath(PlayerDeathEvent event) {
+        this.manager.flushCharges(event.getEntity(), event.getDrops());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChargesQuit(PlayerQuitEvent event) {
+        this.manager.flushCharges(event.getPlayer());
+    }
+}
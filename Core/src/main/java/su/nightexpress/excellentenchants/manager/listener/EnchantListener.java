@@ -6,7 +6,7 @@ import org.bukkit.block.Block;
 import org.bukkit.damage.DamageSource;
 import org.bukkit.damage.DamageType;
 import org.bukkit.entity.*;
-import org.bukkit.event.EventHandler;
+import org.bukkit.event.Event;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.BlockDropItemEvent;
@@ -17,49 +17,129 @@ import org.bukkit.event.player.PlayerFishEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerItemDamageEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.EventExecutor;
 import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.config.Config;
+import su.nightexpress.excellentenchants.enchantment.EnchantHolder;
 import su.nightexpress.excellentenchants.enchantment.EnchantRegistry;
-import su.nightexpress.excellentenchants.api.damage.DamageBonus;
-import su.nightexpress.excellentenchants.api.damage.DamageBonusType;
 import su.nightexpress.excellentenchants.api.enchantment.CustomEnchantment;
 import su.nightexpress.excellentenchants.api.enchantment.component.EnchantComponent;
 import su.nightexpress.excellentenchants.api.enchantment.type.BlockEnchant;
 import su.nightexpress.excellentenchants.api.enchantment.type.ProtectionEnchant;
 import su.nightexpress.excellentenchants.manager.EnchantManager;
+import su.nightexpress.excellentenchants.manager.damage.DamageAccumulator;
 import su.nightexpress.excellentenchants.util.EnchantUtils;
 import su.nightexpress.nightcore.manager.AbstractListener;
 
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public class EnchantListener extends AbstractListener<EnchantsPlugin> {
 
-    private final EnchantManager manager;
+    private final EnchantManager                  manager;
+    private final ThreadLocal<DamageAccumulator> damageAccumulator;
+
+    private final Map<UUID, MoveState>            moveStates;
+
+    private Set<DamageType> protectionDamageTypes;
+    private boolean         moveCoalesce;
+    private long            moveMinInterval;
+    private boolean         hasEveryMoveEnchants;
 
     public EnchantListener(@NotNull EnchantsPlugin plugin, @NotNull EnchantManager manager) {
         super(plugin);
         this.manager = manager;
+        this.damageAccumulator = ThreadLocal.withInitial(DamageAccumulator::new);
+        this.moveStates = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Registers only handlers that have at least one loaded enchantment in their holders.
+     * Registered handlers are removed with the listener, so this is re-evaluated on each reload.
+     */
+    public void registerHolderHandlers() {
+        this.protectionDamageTypes = this.collectProtectionDamageTypes();
+        this.moveCoalesce = Config.MOVE_ENCHANTS_COALESCE.get();
+        this.moveMinInterval = Math.max(1L, Config.MOVE_ENCHANTS_MIN_INTERVAL.get());
+        this.hasEveryMoveEnchants = EnchantRegistry.MOVE.getEnchants().stream().anyMatch(enchant -> !enchant.isMoveCoalescable());
+
+        this.register(BlockBreakEvent.class, EventPriority.HIGH, true, this::onBlockBreak, EnchantRegistry.MINING);
+        this.register(BlockDropItemEvent.class, EventPriority.HIGH, true, this::onDrop, EnchantRegistry.BLOCK_DROP);
+        this.register(EntityShootBowEvent.class, EventPriority.HIGH, true, this::onShootBow, EnchantRegistry.BOW);
+        this.register(ProjectileLaunchEvent.class, EventPriority.HIGH, true, this::onTridentLaunch, EnchantRegistry.TRIDENT);
+        this.register(ProjectileHitEvent.class, EventPriority.HIGH, true, this::onProjectileHit, EnchantRegistry.BOW, EnchantRegistry.ARROW, EnchantRegistry.TRIDENT);
+        this.register(EntityDamageEvent.class, EventPriority.HIGH, true, this::onDamage, EnchantRegistry.PROTECTION, EnchantRegistry.ARROW, EnchantRegistry.TRIDENT, EnchantRegistry.ATTACK, EnchantRegistry.DEFEND);
+        this.register(EntityDeathEvent.class, EventPriority.HIGH, true, this::onEntityDeath, EnchantRegistry.INVENTORY, EnchantRegistry.KILL, EnchantRegistry.DEATH); // ignoreCancelled for Paper compatibility
+        this.register(EntityResurrectEvent.class, EventPriority.HIGH, true, this::onResurrect, EnchantRegistry.RESURRECT);
+        this.register(PlayerFishEvent.class, EventPriority.HIGH, true, this::onFish, EnchantRegistry.FISHING);
+        this.register(PlayerMoveEvent.class, EventPriority.HIGH, true, this::onMove, EnchantRegistry.MOVE);
+        this.register(PlayerQuitEvent.class, EventPriority.MONITOR, false, this::onMoveQuit, EnchantRegistry.MOVE);
+        this.register(PlayerInteractEvent.class, EventPriority.HIGH, false, this::onInteract, EnchantRegistry.INTERACT);
+        this.register(PlayerItemDamageEvent.class, EventPriority.HIGH, true, this::onItemDamage, EnchantRegistry.DURABILITY);
+        this.register(InventoryClickEvent.class, EventPriority.HIGH, true, this::onInventoryClick, EnchantRegistry.CONTAINER);
+
+        this.register(BlockPlaceEvent.class, EventPriority.HIGH, true, this::onBlockPlace, EnchantRegistry.BLOCK);
+        this.register(InventoryClickEvent.class, EventPriority.NORMAL, true, this::onBlockStoreClick, EnchantRegistry.BLOCK);
+        this.register(InventoryDragEvent.class, EventPriority.NORMAL, true, this::onBlockStoreDrag, EnchantRegistry.BLOCK);
+        this.register(InventoryPickupItemEvent.class, EventPriority.NORMAL, true, this::onBlockHopper, EnchantRegistry.BLOCK);
+    }
+
+    /**
+     * @return Damage types any loaded protection enchantment reacts to, or null if some of them reacts to any damage.
+     */
+    @Nullable
+    private Set<DamageType> collectProtectionDamageTypes() {
+        Set<DamageType> types = new HashSet<>();
+
+        for (ProtectionEnchant enchant : EnchantRegistry.PROTECTION.getEnchants()) {
+            Set<DamageType> handled = enchant.getProtectionDamageTypes();
+            if (handled == null) return null;
+
+            types.addAll(handled);
+        }
+
+        return types;
+    }
+
+    private <E extends Event> void register(@NotNull Class<E> eventType,
+                                            @NotNull EventPriority priority,
+                                            boolean ignoreCancelled,
+                                            @NotNull Consumer<E> handler,
+                                            @NotNull EnchantHolder<?>... holders) {
+        if (Stream.of(holders).allMatch(EnchantHolder::isEmpty)) return;
+
+        EventExecutor executor = (listener, event) -> {
+            if (eventType.isInstance(event)) {
+                handler.accept(eventType.cast(event));
+            }
+        };
+
+        this.plugin.getServer().getPluginManager().registerEvent(eventType, this, priority, executor, this.plugin, ignoreCancelled);
     }
 
-    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onBlockBreak(BlockBreakEvent event) {
         Player player = event.getPlayer();
 
         this.manager.handleItemEnchants(player, EquipmentSlot.HAND, EnchantRegistry.MINING, (item, enchant, level) -> enchant.onBreak(event, player, item, level));
     }
 
-    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onDrop(BlockDropItemEvent event) {
         Player player = event.getPlayer();
 
         this.manager.handleItemEnchants(player, EquipmentSlot.HAND, EnchantRegistry.BLOCK_DROP, (item, enchant, level) -> enchant.onDrop(event, player, item, level));
     }
 
-    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onShootBow(EntityShootBowEvent event) {
         LivingEntity entity = event.getEntity();
         EquipmentSlot slot = event.getHand();
@@ -75,7 +155,6 @@ public class EnchantListener extends AbstractListener<EnchantsPlugin> {
         });
     }
 
-    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onTridentLaunch(ProjectileLaunchEvent event) {
         Projectile projectile = event.getEntity();
         if (!(projectile instanceof Trident trident)) return;
@@ -100,7 +179,6 @@ public class EnchantListener extends AbstractListener<EnchantsPlugin> {
         }
     }
 
-    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onProjectileHit(ProjectileHitEvent event) {
         Projectile projectile = event.getEntity();
         if (!(projectile instanceof AbstractArrow abstractArrow)) return;
@@ -122,50 +200,49 @@ public class EnchantListener extends AbstractListener<EnchantsPlugin> {
         this.plugin.runTask(task -> this.manager.removeArrowEffects(abstractArrow));
     }
 
-    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
-    public void onDamageGeneric(EntityDamageEvent event) {
+    /**
+     * Single damage pipeline: protection enchantments for damage without a causing entity,
+     * then arrow, trident, attack and defend enchantments for damage dealt by entities.
+     */
+    public void onDamage(EntityDamageEvent event) {
         if (!(event.getEntity() instanceof LivingEntity victim)) return;
 
         DamageSource source = event.getDamageSource();
-        if (source.getCausingEntity() != null) return;
+        if (source.getCausingEntity() == null && this.isProtectedDamage(source.getDamageType())) {
+            this.handleProtection(event, victim);
+            // Protection may cancel the damage, attack and defend enchantments must not trigger then.
+            if (event.isCancelled()) return;
+        }
 
-        Map<ProtectionEnchant, DamageBonus> damageMap = new HashMap<>();
+        if (event instanceof EntityDamageByEntityEvent byEntityEvent) {
+            this.handleDamageByEntity(byEntityEvent, victim);
+        }
+    }
 
-        this.manager.handleArmorEnchants(victim, EnchantRegistry.PROTECTION, (item, enchant, level) -> {
-            if (event.isCancelled()) return false;
+    private boolean isProtectedDamage(@NotNull DamageType type) {
+        if (EnchantRegistry.PROTECTION.isEmpty()) return false;
 
-            DamageBonus damageBonus = damageMap.computeIfAbsent(enchant, k -> enchant.getDamageBonus());
+        return this.protectionDamageTypes == null || this.protectionDamageTypes.contains(type);
+    }
 
-            return enchant.onProtection(event, damageBonus, victim, item, level);
-        });
+    private void handleProtection(@NotNull EntityDamageEvent event, @NotNull LivingEntity victim) {
+        DamageAccumulator accumulator = this.damageAccumulator.get().begin();
 
-        if (event.isCancelled()) return;
+        try {
+            this.manager.handleArmorEnchants(victim, EnchantRegistry.PROTECTION, (item, enchant, level) -> {
+                if (event.isCancelled()) return false;
 
-        double scalarBonus = 0D;
-        double normalBonus = 0D;
-        for (DamageBonus damageBonus : damageMap.values()) {
-            double bonus = damageBonus.getBonusAmount();
+                return enchant.onProtection(event, accumulator.getBonus(enchant), victim, item, level);
+            });
 
-            if (damageBonus.getType() == DamageBonusType.MULTIPLIER) {
-                scalarBonus += bonus;
-            }
-            else {
-                normalBonus += bonus;
-            }
+            accumulator.apply(event);
+        }
+        finally {
+            accumulator.end();
         }
-        if (scalarBonus == 0D && normalBonus == 0D) return;
-
-        double scale = 1 + (scalarBonus / 100D);
-        double damageNormaled = event.getDamage() + normalBonus;
-        double damageFinal = damageNormaled * scale;
-
-        event.setDamage(Math.max(0, damageFinal));
     }
 
-    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
-    public void onDamageByEntity(EntityDamageByEntityEvent event) {
-        if (!(event.getEntity() instanceof LivingEntity victim)) return;
-
+    private void handleDamageByEntity(@NotNull EntityDamageByEntityEvent event, @NotNull LivingEntity victim) {
         DamageSource source = event.getDamageSource();
         Entity directDamager = source.getDirectEntity();
 
@@ -199,7 +276,6 @@ public class EnchantListener extends AbstractListener<EnchantsPlugin> {
         }
     }
 
-    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true) // ignoreCancelled for Paper compatibility
     public void onEntityDeath(EntityDeathEvent event) {
         LivingEntity entity = event.getEntity();
         Player killer = entity.getKiller();
@@ -216,14 +292,12 @@ public class EnchantListener extends AbstractListener<EnchantsPlugin> {
         this.manager.handleArmorEnchants(entity, EnchantRegistry.DEATH, (item, enchant, level) -> enchant.onDeath(event, entity, item, level));
     }
 
-    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onResurrect(EntityResurrectEvent event) {
         LivingEntity entity = event.getEntity();
 
         this.manager.handleArmorEnchants(entity, EnchantRegistry.RESURRECT, (item, enchant, level) -> enchant.onResurrect(event, entity, item, level));
     }
 
-    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onFish(PlayerFishEvent event) {
         Player player = event.getPlayer();
         EquipmentSlot slot = event.getHand();
@@ -235,7 +309,6 @@ public class EnchantListener extends AbstractListener<EnchantsPlugin> {
         this.manager.handleItemEnchants(player, slot, EnchantRegistry.FISHING, (item, enchant, level) -> enchant.onFishing(event, item, level));
     }
 
-    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onMove(PlayerMoveEvent event) {
         Player player = event.getPlayer();
         if (player.isFlying()) return;
@@ -245,10 +318,28 @@ public class EnchantListener extends AbstractListener<EnchantsPlugin> {
         if (to == null) return;
         if (from.getX() == to.getX() && from.getY() == to.getY() && from.getZ() == to.getZ()) return;
 
+        if (this.moveCoalesce && !this.isMoveDue(player, to)) {
+            if (!this.hasEveryMoveEnchants) return;
+
+            this.manager.handleArmorEnchants(player, EnchantRegistry.MOVE, (item, enchant, level) -> {
+                return !enchant.isMoveCoalescable() && enchant.onMove(event, player, item, level);
+            });
+            return;
+        }
+
         this.manager.handleArmorEnchants(player, EnchantRegistry.MOVE, (item, enchant, level) -> enchant.onMove(event, player, item, level));
     }
 
-    @EventHandler(priority = EventPriority.HIGH)
+    private boolean isMoveDue(@NotNull Player player, @NotNull Location to) {
+        MoveState state = this.moveStates.computeIfAbsent(player.getUniqueId(), k -> new MoveState());
+
+        return state.shouldDispatch(to.getBlockX(), to.getBlockY(), to.getBlockZ(), this.manager.getCurrentTick(), this.moveMinInterval);
+    }
+
+    public void onMoveQuit(PlayerQuitEvent event) {
+        this.moveStates.remove(event.getPlayer().getUniqueId());
+    }
+
     public void onInteract(PlayerInteractEvent event) {
         Player player = event.getPlayer();
         EquipmentSlot slot = event.getHand();
@@ -257,7 +348,6 @@ public class EnchantListener extends AbstractListener<EnchantsPlugin> {
         this.manager.handleItemEnchants(player, slot, EnchantRegistry.INTERACT, (item, enchant, level) -> enchant.onInteract(event, player, item, level));
     }
 
-    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onItemDamage(PlayerItemDamageEvent event) {
         Player player = event.getPlayer();
         ItemStack itemStack = event.getItem();
@@ -265,7 +355,6 @@ public class EnchantListener extends AbstractListener<EnchantsPlugin> {
         this.manager.handleItemEnchants(player, itemStack, EnchantRegistry.DURABILITY, (item, enchant, level) -> enchant.onItemDamage(event, player, item, level));
     }
 
-    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onInventoryClick(InventoryClickEvent event) {
         Player player = (Player) event.getWhoClicked();
         ItemStack itemStack = event.getCurrentItem();
@@ -274,7 +363,6 @@ public class EnchantListener extends AbstractListener<EnchantsPlugin> {
         this.manager.handleItemEnchants(player, itemStack, EnchantRegistry.CONTAINER, (item, enchant, level) -> enchant.onClick(event, player, item, level));
     }
 
-    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onBlockPlace(BlockPlaceEvent event) {
         ItemStack itemStack = event.getItemInHand();
 
@@ -286,7 +374,6 @@ public class EnchantListener extends AbstractListener<EnchantsPlugin> {
         enchant.onPlace(event, player, block, itemStack);
     }
 
-    @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
     public void onBlockStoreClick(InventoryClickEvent event) {
         Inventory inventory = event.getInventory();
         Player player = (Player) event.getWhoClicked();
@@ -341,7 +428,6 @@ public class EnchantListener extends AbstractListener<EnchantsPlugin> {
         }
     }
 
-    @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
     public void onBlockStoreDrag(InventoryDragEvent event) {
         Inventory inventory = event.getInventory();
 
@@ -359,7 +445,6 @@ public class EnchantListener extends AbstractListener<EnchantsPlugin> {
         }
     }
 
-    @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
     public void onBlockHopper(InventoryPickupItemEvent event) {
         ItemStack itemStack = event.getItem().getItemStack();
 
@@ -0,0 +1,55 @@
+package su.nightexpress.excellentenchants.manager.listener;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.entity.CreatureSpawnEvent;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+import org.bukkit.inventory.EquipmentSlot;
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.manager.EnchantManager;
+import su.nightexpress.nightcore.manager.AbstractListener;
+
+public class EquipmentListener extends AbstractListener<EnchantsPlugin> {
+
+    private final EnchantManager manager;
+
+    public EquipmentListener(@NotNull EnchantsPlugin plugin, @NotNull EnchantManager manager) {
+        super(plugin);
+        this.manager = manager;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onCacheSpawn(CreatureSpawnEvent event) {
+        this.manager.invalidateCache(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onCacheDeath(EntityDeathEvent event) {
+        this.manager.invalidateCache(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onCacheUnload(EntitiesUnloadEvent event) {
+        for (Entity entity : event.getEntities()) {
+            if (entity instanceof LivingEntity livingEntity) {
+                this.manager.invalidateCache(livingEntity);
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onCacheHeld(PlayerItemHeldEvent event) {
+        this.manager.invalidateCache(event.getPlayer(), EquipmentSlot.HAND);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onCacheQuit(PlayerQuitEvent event) {
+        this.manager.clearCache(event.getPlayer());
+    }
+}
@@ -0,0 +1,30 @@
+package su.nightexpress.excellentenchants.manager.listener;
+
+/**
+ * Last block and tick move enchantments were triggered at for a player.
+ */
+class MoveState {
+
+    int  blockX;
+    int  blockY;
+    int  blockZ;
+    long lastTick;
+
+    MoveState() {
+        this.blockY = Integer.MIN_VALUE; // No block recorded yet.
+    }
+
+    /**
+     * @return True and records the new state if the position is in another block or enough ticks have passed.
+     */
+    boolean shouldDispatch(int blockX, int blockY, int blockZ, long tick, long minInterval) {
+        boolean sameBlock = blockX == this.blockX && blockY == this.blockY && blockZ == this.blockZ;
+        if (sameBlock && tick - this.lastTick < minInterval) return false;
+
+        this.blockX = blockX;
+        this.blockY = blockY;
+        this.blockZ = blockZ;
+        this.lastTick = tick;
+        return true;
+    }
+}
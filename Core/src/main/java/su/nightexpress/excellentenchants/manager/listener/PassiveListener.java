@@ -0,0 +1,76 @@
+package su.nightexpress.excellentenchants.manager.listener;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.entity.CreatureSpawnEvent;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.manager.EnchantManager;
+import su.nightexpress.nightcore.manager.AbstractListener;
+
+public class PassiveListener extends AbstractListener<EnchantsPlugin> {
+
+    private final EnchantManager manager;
+
+    public PassiveListener(@NotNull EnchantsPlugin plugin, @NotNull EnchantManager manager) {
+        super(plugin);
+        this.manager = manager;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPassiveJoin(PlayerJoinEvent event) {
+        this.manager.updatePassiveEntity(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPassiveQuit(PlayerQuitEvent event) {
+        this.manager.removePassiveEntity(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPassiveSpawn(CreatureSpawnEvent event) {
+        this.manager.updatePassiveEntity(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPassiveDeath(EntityDeathEvent event) {
+        if (event.getEntity() instanceof Player) return; // Players are kept until quit.
+
+        this.manager.removePassiveEntity(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPassivePickup(EntityPickupItemEvent event) {
+        LivingEntity entity = event.getEntity();
+
+        // Equipment is updated after the event.
+        this.plugin.runAtEntity(entity, task -> this.manager.updatePassiveEntity(entity));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPassiveLoad(EntitiesLoadEvent event) {
+        for (Entity entity : event.getEntities()) {
+            if (entity instanceof LivingEntity livingEntity) {
+                this.manager.updatePassiveEntity(livingEntity);
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPassiveUnload(EntitiesUnloadEvent event) {
+        for (Entity entity : event.getEntities()) {
+            if (entity instanceof LivingEntity livingEntity) {
+                this.manager.removePassiveEntity(livingEntity);
+            }
+        }
+    }
+}
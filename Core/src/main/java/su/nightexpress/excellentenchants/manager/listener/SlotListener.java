@@ -1,10 +1,12 @@
 package su.nightexpress.excellentenchants.manager.listener;
 
+import io.papermc.paper.event.entity.EntityEquipmentChangedEvent;
 import io.papermc.paper.event.player.PlayerInventorySlotChangeEvent;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
-import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.inventory.EquipmentSlot;
 import org.jetbrains.annotations.NotNull;
 import su.nightexpress.excellentenchants.EnchantsPlugin;
@@ -26,7 +28,13 @@ public class SlotListener extends AbstractListener<EnchantsPlugin> {
         Player player = event.getPlayer();
         int slot = event.getSlot();
 
-        // Cache only wearable items.
+        if (slot == player.getInventory().getHeldItemSlot()) {
+            this.manager.updateHeldCache(player, slot, EntityUtil.getItemInSlot(player, EquipmentSlot.HAND));
+            this.manager.updatePassiveEntity(player);
+            return;
+        }
+
+        // Cache only wearable and held items.
         EquipmentSlot equipmentSlot = switch (slot) {
             case 36 -> EquipmentSlot.FEET;
             case 37 -> EquipmentSlot.LEGS;
@@ -38,10 +46,28 @@ public class SlotListener extends AbstractListener<EnchantsPlugin> {
         if (equipmentSlot == null) return;
 
         this.manager.updateCache(player, equipmentSlot, EntityUtil.getItemInSlot(player, equipmentSlot));
+        this.manager.updatePassiveEntity(player);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemHeld(PlayerItemHeldEvent event) {
+        Player player = event.getPlayer();
+        int heldSlot = event.getNewSlot();
+
+        this.manager.updateHeldCache(player, heldSlot, player.getInventory().getItem(heldSlot));
+        this.manager.updatePassiveEntity(player);
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
-    public void onQuit(PlayerQuitEvent event) {
-        this.manager.clearCache(event.getPlayer());
+    public void onJoin(PlayerJoinEvent event) {
+        this.manager.cacheEquipment(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEquipmentChange(EntityEquipmentChangedEvent event) {
+        if (event.getEntity() instanceof Player) return; // Players are tracked by slot changes.
+
+        this.manager.invalidateCache(event.getEntity());
+        this.manager.updatePassiveEntity(event.getEntity());
     }
 }
@@ -0,0 +1,58 @@
+package su.nightexpress.excellentenchants.manager.passive;
+
+import org.bukkit.Location;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entities with due passive enchantments last seen in the same chunk section, handled by a single region task on Folia.
+ * Sections of 16x16 chunks match the default Folia region section size, so all entities of a batch usually belong to the same region.
+ * Entities are checked for region ownership in the task, as they may have moved since their location was read.
+ */
+public class PassiveBatch {
+
+    public static final int SECTION_SHIFT = 4 + 4; // Block to chunk, chunk to section.
+
+    private final Location                 location;
+    private final List<PassiveEntity>      owners;
+    private final List<List<PassiveEntry>> entries;
+
+    public PassiveBatch(@NotNull Location location) {
+        this.location = location;
+        this.owners = new ArrayList<>();
+        this.entries = new ArrayList<>();
+    }
+
+    public static long getSectionKey(@NotNull Location location) {
+        long sectionX = location.getBlockX() >> SECTION_SHIFT;
+        long sectionZ = location.getBlockZ() >> SECTION_SHIFT;
+
+        return (sectionX << 32) | (sectionZ & 0xFFFFFFFFL);
+    }
+
+    public void add(@NotNull PassiveEntity owner, @NotNull List<PassiveEntry> entries) {
+        this.owners.add(owner);
+        this.entries.add(entries);
+    }
+
+    @NotNull
+    public Location getLocation() {
+        return this.location;
+    }
+
+    public int size() {
+        return this.owners.size();
+    }
+
+    @NotNull
+    public PassiveEntity getOwner(int index) {
+        return this.owners.get(index);
+    }
+
+    @NotNull
+    public List<PassiveEntry> getEntries(int index) {
+        return this.entries.get(index);
+    }
+}
@@ -0,0 +1,69 @@
+package su.nightexpress.excellentenchants.manager.passive;
+
+import org.bukkit.entity.LivingEntity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import su.nightexpress.excellentenchants.api.enchantment.type.PassiveEnchant;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Entities that may have passive enchantments on their equipment, so passive ticks don't have to scan all loaded entities.
+ * Maintained by equipment, spawn, load, unload, death and quit events, re-registered when equipped passive enchantments change.
+ */
+public class PassiveEntities {
+
+    private final Map<UUID, PassiveEntity> entities;
+
+    public PassiveEntities() {
+        this.entities = new ConcurrentHashMap<>();
+    }
+
+    @Nullable
+    public PassiveEntity get(@NotNull LivingEntity entity) {
+        return this.entities.get(entity.getUniqueId());
+    }
+
+    /**
+     * Registers the entity with the given passive enchantments, replacing and deactivating its previous registration.
+     *
+     * @return New registration of the entity.
+     */
+    @NotNull
+    public PassiveEntity add(@NotNull LivingEntity entity, @NotNull List<PassiveEnchant> enchants) {
+        PassiveEntity created = new PassiveEntity(entity, enchants);
+        PassiveEntity previous = this.entities.put(entity.getUniqueId(), created);
+        if (previous != null) previous.deactivate();
+
+        return created;
+    }
+
+    public void remove(@NotNull LivingEntity entity) {
+        PassiveEntity registration = this.entities.remove(entity.getUniqueId());
+        if (registration != null) registration.deactivate();
+    }
+
+    /**
+     * Removes the given registration only, keeping a newer one of the same entity.
+     */
+    public void remove(@NotNull PassiveEntity registration) {
+        this.entities.remove(registration.getEntity().getUniqueId(), registration);
+        registration.deactivate();
+    }
+
+    public boolean contains(@NotNull LivingEntity entity) {
+        return this.entities.containsKey(entity.getUniqueId());
+    }
+
+    public int size() {
+        return this.entities.size();
+    }
+
+    public void clear() {
+        this.entities.values().forEach(PassiveEntity::deactivate);
+        this.entities.clear();
+    }
+}
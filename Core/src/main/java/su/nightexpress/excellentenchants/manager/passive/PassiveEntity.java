@@ -0,0 +1,91 @@
+package su.nightexpress.excellentenchants.manager.passive;
+
+import org.bukkit.Location;
+import org.bukkit.entity.LivingEntity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import su.nightexpress.excellentenchants.api.enchantment.type.PassiveEnchant;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Registration of an entity in {@link PassiveEntities} with passive enchantments scheduled for it.
+ * Deactivated when the entity is removed from the registry or registered again with other enchantments,
+ * so scheduled entries of a previous registration are dropped.
+ */
+public class PassiveEntity {
+
+    private final LivingEntity         entity;
+    private final List<PassiveEnchant> enchants;
+
+    private volatile boolean     active;
+    private volatile Location    lastLocation;
+    private List<PassiveEnchant> queued;
+
+    public PassiveEntity(@NotNull LivingEntity entity, @NotNull List<PassiveEnchant> enchants) {
+        this.entity = entity;
+        this.enchants = enchants;
+        this.active = true;
+    }
+
+    @NotNull
+    public LivingEntity getEntity() {
+        return this.entity;
+    }
+
+    @NotNull
+    public List<PassiveEnchant> getEnchants() {
+        return this.enchants;
+    }
+
+    /**
+     * @return Entity location from the last time it was read on the entity's thread. Used to pick region tasks on Folia,
+     * where the entity can't be accessed from the global thread.
+     */
+    @Nullable
+    public Location getLastLocation() {
+        return this.lastLocation;
+    }
+
+    /**
+     * Must be called on the entity's thread.
+     */
+    public void updateLastLocation() {
+        this.lastLocation = this.entity.getLocation();
+    }
+
+    public boolean isActive() {
+        return this.active;
+    }
+
+    public void deactivate() {
+        this.active = false;
+    }
+
+    /**
+     * Adds due enchantments waiting for the tick budget, merging them with ones that are still waiting.
+     * Accessed on the main thread only.
+     */
+    public void addQueued(@NotNull List<PassiveEnchant> enchants) {
+        if (this.queued == null) {
+            this.queued = new ArrayList<>(enchants);
+            return;
+        }
+
+        for (PassiveEnchant enchant : enchants) {
+            if (!this.queued.contains(enchant)) this.queued.add(enchant);
+        }
+    }
+
+    /**
+     * @return Enchantments waiting for the tick budget, cleared.
+     */
+    @NotNull
+    public List<PassiveEnchant> takeQueued() {
+        List<PassiveEnchant> enchants = this.queued;
+        this.queued = null;
+        return enchants == null ? Collections.emptyList() : enchants;
+    }
+}
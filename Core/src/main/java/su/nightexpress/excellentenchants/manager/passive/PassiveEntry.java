@@ -0,0 +1,53 @@
+package su.nightexpress.excellentenchants.manager.passive;
+
+import org.jetbrains.annotations.NotNull;
+import su.nightexpress.excellentenchants.api.enchantment.type.PassiveEnchant;
+
+/**
+ * Passive enchantment scheduled for an entity in {@link PassiveWheel}.
+ */
+public class PassiveEntry {
+
+    private final PassiveEntity  owner;
+    private final PassiveEnchant enchant;
+    private final long           interval;
+
+    private long dueTick;
+    private int  reducedRuns;
+
+    public PassiveEntry(@NotNull PassiveEntity owner, @NotNull PassiveEnchant enchant, long interval, long dueTick) {
+        this.owner = owner;
+        this.enchant = enchant;
+        this.interval = Math.max(1L, interval);
+        this.dueTick = dueTick;
+    }
+
+    @NotNull
+    public PassiveEntity getOwner() {
+        return this.owner;
+    }
+
+    @NotNull
+    public PassiveEnchant getEnchant() {
+        return this.enchant;
+    }
+
+    public long getInterval() {
+        return this.interval;
+    }
+
+    public long getDueTick() {
+        return this.dueTick;
+    }
+
+    public void setDueTick(long dueTick) {
+        this.dueTick = dueTick;
+    }
+
+    /**
+     * @return True once per the given number of calls, used to trigger the enchantment at reduced rate.
+     */
+    public boolean nextReducedRun(int rate) {
+        return rate <= 1 || this.reducedRuns++ % rate == 0;
+    }
+}
@@ -0,0 +1,100 @@
+package su.nightexpress.excellentenchants.manager.passive;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Distance based level of detail for passive enchantments of mobs, created for a single passive dispatch.
+ * <p>
+ * Mobs within the near distance of any player trigger at full rate, mobs within the far distance trigger once per
+ * the reduced rate divider, and mobs beyond it (or in worlds without players) are suspended. Players always trigger at full rate.
+ * Player positions are collected once per world for the dispatch, or taken from {@link PlayerPositions} on Folia.
+ * Not thread safe, on Folia an instance is created per region task.
+ */
+public class PassiveLod {
+
+    private static final double[] NO_PLAYERS = new double[0];
+
+    private final double nearDistanceSquared;
+    private final double farDistance;
+    private final int    reducedRate;
+
+    private final PlayerPositions      knownPositions;
+    private final Map<World, double[]> playerPositions;
+    private final Map<World, Double>   farDistances;
+
+    public PassiveLod(double nearDistance, double farDistance, int reducedRate, @Nullable PlayerPositions knownPositions) {
+        this.nearDistanceSquared = nearDistance * nearDistance;
+        this.farDistance = farDistance;
+        this.reducedRate = Math.max(1, reducedRate);
+        this.knownPositions = knownPositions;
+        this.playerPositions = new IdentityHashMap<>();
+        this.farDistances = new IdentityHashMap<>();
+    }
+
+    /**
+     * @return Divider of the trigger rate for passive enchantments of the entity: 1 for full rate, 0 if they are suspended.
+     * Reduced rate is applied per scheduled entry, so each enchantment of the entity keeps triggering.
+     */
+    public int getRate(@NotNull LivingEntity entity, @NotNull Location location) {
+        if (entity instanceof Player) return 1;
+
+        World world = location.getWorld();
+        if (world == null) return 0;
+
+        double distance = this.getNearestPlayerDistanceSquared(world, location);
+        if (distance <= this.nearDistanceSquared) return 1;
+
+        double far = this.farDistances.computeIfAbsent(world, this::getFarDistance);
+        if (distance > far * far) return 0;
+
+        return this.reducedRate;
+    }
+
+    private double getFarDistance(@NotNull World world) {
+        // Non-positive value means world's simulation distance.
+        return this.farDistance > 0D ? this.farDistance : world.getSimulationDistance() * 16D;
+    }
+
+    private double getNearestPlayerDistanceSquared(@NotNull World world, @NotNull Location location) {
+        double[] positions = this.knownPositions != null ? this.knownPositions.get(world) : this.playerPositions.computeIfAbsent(world, PassiveLod::collectPlayerPositions);
+
+        double x = location.getX();
+        double y = location.getY();
+        double z = location.getZ();
+        double nearest = Double.MAX_VALUE;
+
+        for (int index = 0; index < positions.length; index += 3) {
+            double dx = positions[index] - x;
+            double dy = positions[index + 1] - y;
+            double dz = positions[index + 2] - z;
+            nearest = Math.min(nearest, dx * dx + dy * dy + dz * dz);
+        }
+        return nearest;
+    }
+
+    @NotNull
+    private static double[] collectPlayerPositions(@NotNull World world) {
+        List<Player> players = world.getPlayers();
+        if (players.isEmpty()) return NO_PLAYERS;
+
+        double[] positions = new double[players.size() * 3];
+        int index = 0;
+
+        for (Player player : players) {
+            Location location = player.getLocation();
+            positions[index++] = location.getX();
+            positions[index++] = location.getY();
+            positions[index++] = location.getZ();
+        }
+        return positions;
+    }
+}
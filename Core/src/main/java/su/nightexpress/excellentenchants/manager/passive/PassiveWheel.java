@@ -0,0 +1,129 @@
+package su.nightexpress.excellentenchants.manager.passive;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel for passive enchantment entries.
+ * <p>
+ * Three levels of 256 slots cover 1, 256 and 65536 ticks per slot. Entries are placed by their due tick and moved to a lower level
+ * when the wheel reaches their slot, so each tick touches only entries that are due (and, every 256 ticks, one slot to cascade).
+ * Entries due further than the wheel span wait in the last level and are re-placed when reached.
+ */
+public class PassiveWheel {
+
+    private static final int  BITS   = 8;
+    private static final int  SLOTS  = 1 << BITS;
+    private static final int  MASK   = SLOTS - 1;
+    private static final int  LEVELS = 3;
+    private static final long SPAN   = 1L << (BITS * LEVELS);
+
+    private final List<PassiveEntry>[][] wheels;
+
+    private long tick;
+    private int  size;
+
+    @SuppressWarnings("unchecked")
+    public PassiveWheel(long tick) {
+        this.wheels = new List[LEVELS][SLOTS];
+        this.tick = tick;
+    }
+
+    public synchronized void schedule(@NotNull PassiveEntry entry) {
+        this.place(entry, this.tick + 1);
+        this.size++;
+    }
+
+    /**
+     * Moves the wheel up to the given tick.
+     *
+     * @return Entries due by the given tick, removed from the wheel.
+     */
+    @NotNull
+    public synchronized List<PassiveEntry> advance(long toTick) {
+        if (this.size == 0) {
+            this.tick = Math.max(this.tick, toTick);
+            return Collections.emptyList();
+        }
+
+        List<PassiveEntry> due = null;
+
+        while (this.tick < toTick) {
+            long current = ++this.tick;
+
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((current & ((1L << (BITS * level)) - 1)) != 0) continue;
+
+                List<PassiveEntry> slot = this.take(level, (int) (current >>> (BITS * level)) & MASK);
+                if (slot == null) continue;
+
+                // Current tick slot of the lowest level is not drained yet, so entries due now can still go there.
+                for (PassiveEntry entry : slot) {
+                    this.place(entry, current);
+                }
+            }
+
+            List<PassiveEntry> slot = this.take(0, (int) current & MASK);
+            if (slot == null) continue;
+
+            for (PassiveEntry entry : slot) {
+                if (entry.getDueTick() > current) {
+                    this.place(entry, current + 1);
+                    continue;
+                }
+
+                if (due == null) due = new ArrayList<>();
+                due.add(entry);
+                this.size--;
+            }
+        }
+
+        return due == null ? Collections.emptyList() : due;
+    }
+
+    public synchronized int size() {
+        return this.size;
+    }
+
+    public synchronized void clear() {
+        for (List<PassiveEntry>[] wheel : this.wheels) {
+            for (int index = 0; index < SLOTS; index++) {
+                wheel[index] = null;
+            }
+        }
+        this.size = 0;
+    }
+
+    private void place(@NotNull PassiveEntry entry, long minTick) {
+        long dueTick = Math.max(entry.getDueTick(), minTick);
+        long delta = dueTick - this.tick;
+
+        int level = 0;
+        if (delta >= SPAN) {
+            level = LEVELS - 1;
+            dueTick = this.tick + SPAN - 1;
+        }
+        else {
+            while (level < LEVELS - 1 && delta >= (1L << (BITS * (level + 1)))) {
+                level++;
+            }
+        }
+
+        int index = (int) (dueTick >>> (BITS * level)) & MASK;
+        List<PassiveEntry> slot = this.wheels[level][index];
+        if (slot == null) {
+            slot = new ArrayList<>();
+            this.wheels[level][index] = slot;
+        }
+        slot.add(entry);
+    }
+
+    private List<PassiveEntry> take(int level, int index) {
+        List<PassiveEntry> slot = this.wheels[level][index];
+        this.wheels[level][index] = null;
+        return slot;
+    }
+}
@@ -0,0 +1,75 @@
+package su.nightexpress.excellentenchants.manager.passive;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Last known positions of online players, for passive level of detail on Folia, where players can't be read
+ * outside of their region threads. Each position is written on the player's own thread, per-world arrays
+ * are rebuilt from them periodically and replaced at once, so they can be read from any thread.
+ */
+public class PlayerPositions {
+
+    private static final double[] NO_PLAYERS = new double[0];
+
+    private final Map<UUID, Location> locations;
+
+    private volatile Map<World, double[]> positions;
+
+    public PlayerPositions() {
+        this.locations = new ConcurrentHashMap<>();
+        this.positions = new IdentityHashMap<>();
+    }
+
+    /**
+     * Must be called on the player's thread.
+     */
+    public void update(@NotNull Player player) {
+        this.locations.put(player.getUniqueId(), player.getLocation());
+    }
+
+    public void remove(@NotNull Player player) {
+        this.locations.remove(player.getUniqueId());
+    }
+
+    public void rebuild() {
+        Map<World, List<Location>> byWorld = new IdentityHashMap<>();
+        this.locations.values().forEach(location -> {
+            World world = location.getWorld();
+            if (world != null) byWorld.computeIfAbsent(world, k -> new ArrayList<>()).add(location);
+        });
+
+        Map<World, double[]> positions = new IdentityHashMap<>();
+        byWorld.forEach((world, locations) -> {
+            double[] array = new double[locations.size() * 3];
+            int index = 0;
+
+            for (Location location : locations) {
+                array[index++] = location.getX();
+                array[index++] = location.getY();
+                array[index++] = location.getZ();
+            }
+            positions.put(world, array);
+        });
+
+        this.positions = positions;
+    }
+
+    /**
+     * @return Player coordinates in the world as x, y, z triples.
+     */
+    @NotNull
+    public double[] get(@NotNull World world) {
+        return this.positions.getOrDefault(world, NO_PLAYERS);
+    }
+
+    public void clear() {
+        this.locations.clear();
+        this.positions = new IdentityHashMap<>();
+    }
+}
@@ -0,0 +1,129 @@
+package su.nightexpress.excellentenchants.manager.tick;
+
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Limits time spent on repeating enchantment work.
+ * <p>
+ * Queued work is drained within a per-tick nanosecond budget, leftovers are carried into the next tick.
+ * Work is queued once per key, and the queue is limited: the oldest work is dropped when it's full,
+ * as it's repeating work that will be queued again.
+ * While the server's average tick time is above the threshold, intervals of repeating tasks are stretched by {@link #getStretch()}.
+ * The queue is accessed on the main thread only.
+ */
+public class TickGovernor {
+
+    private final boolean enabled;
+    private final long    budgetNanos;
+    private final double  msptThreshold;
+    private final int     maxStretch;
+    private final int     maxQueued;
+    private final boolean msptAvailable;
+
+    private final Map<Object, Runnable> queue;
+
+    private volatile int stretch;
+
+    public TickGovernor(boolean enabled, long budgetNanos, double msptThreshold, int maxStretch, int maxQueued, boolean msptAvailable) {
+        this.enabled = enabled;
+        this.budgetNanos = Math.max(0L, budgetNanos);
+        this.msptThreshold = msptThreshold;
+        this.maxStretch = Math.max(1, maxStretch);
+        this.maxQueued = Math.max(1, maxQueued);
+        this.msptAvailable = enabled && msptAvailable && msptThreshold > 0D;
+        this.queue = new LinkedHashMap<>();
+        this.stretch = 1;
+    }
+
+    /**
+     * Updates interval stretch from the server's average tick time.
+     */
+    public void updateStretch() {
+        if (!this.msptAvailable) return;
+
+        double mspt = Bukkit.getServer().getAverageTickTime();
+        if (mspt <= this.msptThreshold) {
+            this.stretch = 1;
+            return;
+        }
+
+        this.stretch = Math.min(this.maxStretch, (int) Math.ceil(mspt / this.msptThreshold));
+    }
+
+    /**
+     * @return Multiplier for intervals of repeating tasks, 1 if the server is not lagging.
+     */
+    public int getStretch() {
+        return this.stretch;
+    }
+
+    /**
+     * @return True if a task ticked each time should run on the given run count with the current stretch.
+     */
+    public boolean isDue(long runs) {
+        int stretch = this.stretch;
+        return stretch <= 1 || runs % stretch == 0;
+    }
+
+    public void submit(@NotNull Runnable work) {
+        this.submit(work, work);
+    }
+
+    /**
+     * Queues work under the given key. Does nothing if work of the same key is queued already,
+     * so queued work should read its state when it runs rather than capture it.
+     */
+    public void submit(@NotNull Object key, @NotNull Runnable work) {
+        if (!this.enabled) {
+            work.run();
+            return;
+        }
+
+        if (this.queue.containsKey(key)) return;
+
+        if (this.queue.size() >= this.maxQueued) {
+            this.poll();
+        }
+        this.queue.put(key, work);
+    }
+
+    /**
+     * Runs queued work until the budget is exhausted. At least one piece of work is run each call, so the queue always moves.
+     */
+    public void drain() {
+        if (this.queue.isEmpty()) return;
+
+        long start = System.nanoTime();
+
+        do {
+            Runnable work = this.poll();
+            if (work == null) break;
+
+            work.run();
+        }
+        while (System.nanoTime() - start < this.budgetNanos);
+    }
+
+    private Runnable poll() {
+        Iterator<Runnable> iterator = this.queue.values().iterator();
+        if (!iterator.hasNext()) return null;
+
+        Runnable work = iterator.next();
+        iterator.remove();
+        return work;
+    }
+
+    public int getQueued() {
+        return this.queue.size();
+    }
+
+    public void clear() {
+        this.queue.clear();
+        this.stretch = 1;
+    }
+}
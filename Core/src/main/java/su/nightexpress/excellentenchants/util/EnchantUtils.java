@@ -17,6 +17,9 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import su.nightexpress.excellentenchants.EnchantsPlugin;
+import su.nightexpress.excellentenchants.api.EnchantedItem;
+import su.nightexpress.excellentenchants.bridge.EnchantReader;
+import su.nightexpress.excellentenchants.bridge.spigot.SpigotEnchantReader;
 import su.nightexpress.excellentenchants.enchantment.EnchantHolder;
 import su.nightexpress.excellentenchants.enchantment.EnchantRegistry;
 import su.nightexpress.excellentenchants.api.enchantment.CustomEnchantment;
@@ -35,8 +38,14 @@ public class EnchantUtils {
     private static final EquipmentSlot[] HANDS = {EquipmentSlot.HAND, EquipmentSlot.OFF_HAND};
     private static final Set<UUID> IGNORE_DISPLAY_UPDATE = new HashSet<>();
 
+    private static EnchantReader enchantReader = new SpigotEnchantReader();
+
     private static boolean busyBreak;
 
+    public static void setEnchantReader(@NotNull EnchantReader reader) {
+        enchantReader = reader;
+    }
+
     public static boolean isBusy() {
         return busyBreak;
     }
@@ -211,8 +220,7 @@ public class EnchantUtils {
 
     @NotNull
     public static Map<Enchantment, Integer> getEnchantments(@NotNull ItemStack item) {
-        ItemMeta meta = item.getItemMeta();
-        return meta == null ? Collections.emptyMap() : getEnchantments(meta);
+        return enchantReader.getEnchantments(item);
     }
 
     @NotNull
@@ -228,8 +236,7 @@ public class EnchantUtils {
     }
 
     public static boolean contains(@NotNull ItemStack item, @NotNull Enchantment enchantment) {
-        ItemMeta meta = item.getItemMeta();
-        return meta != null && contains(meta, enchantment);
+        return enchantReader.contains(item, enchantment);
     }
 
     public static boolean contains(@NotNull ItemMeta meta, @NotNull Enchantment enchantment) {
@@ -237,8 +244,7 @@ public class EnchantUtils {
     }
 
     public static int getLevel(@NotNull ItemStack item, @NotNull Enchantment enchant) {
-        ItemMeta meta = item.getItemMeta();
-        return meta == null ? 0 : getLevel(meta, enchant);
+        return enchantReader.getLevel(item, enchant);
     }
 
     public static int getLevel(@NotNull ItemMeta meta, @NotNull Enchantment enchant) {
@@ -250,7 +256,11 @@ public class EnchantUtils {
     }
 
     public static int countCustomEnchantments(@NotNull ItemStack item) {
-        return getCustomEnchantments(item).size();
+        int count = 0;
+        for (Enchantment enchantment : getEnchantments(item).keySet()) {
+            if (EnchantRegistry.getByBukkit(enchantment) != null) count++;
+        }
+        return count;
     }
 
     @NotNull
@@ -275,11 +285,49 @@ public class EnchantUtils {
         return map;
     }
 
+    /**
+     * Reads custom enchantments of the item into arrays sized to the item enchantments amount.
+     *
+     * @return Enchanted item or null if item has no custom enchantments.
+     */
+    @Nullable
+    public static EnchantedItem<CustomEnchantment> getEnchantedItem(@NotNull ItemStack item) {
+        Map<Enchantment, Integer> enchants = getEnchantments(item);
+        if (enchants.isEmpty()) return null;
+
+        CustomEnchantment[] customs = null;
+        int[] levels = null;
+        int count = 0;
+        long holderMask = 0L;
+        for (Map.Entry<Enchantment, Integer> entry : enchants.entrySet()) {
+            CustomEnchantment enchantment = EnchantRegistry.getByBukkit(entry.getKey());
+            if (enchantment == null) continue;
+
+            if (customs == null) {
+                customs = new CustomEnchantment[enchants.size()];
+                levels = new int[enchants.size()];
+            }
+            customs[count] = enchantment;
+            levels[count] = entry.getValue();
+            count++;
+            holderMask |= EnchantRegistry.getHolderMask(enchantment);
+        }
+        if (customs == null) return null;
+
+        if (count < customs.length) {
+            customs = Arrays.copyOf(customs, count);
+            levels = Arrays.copyOf(levels, count);
+        }
+
+        return new EnchantedItem<>(item, customs, levels, holderMask);
+    }
+
     @NotNull
     public static <T extends CustomEnchantment> Map<T, Integer> getCustomEnchantments(@NotNull ItemStack item, @NotNull EnchantHolder<T> holder) {
         Map<T, Integer> map = new HashMap<>();
         getEnchantments(item).forEach((enchantment, level) -> {
-            T specific = holder.getEnchant(BukkitThing.getValue(enchantment));
+            CustomEnchantment custom = EnchantRegistry.getByBukkit(enchantment);
+            T specific = custom == null ? null : holder.getEnchant(custom);
             if (specific == null) return;
 
             map.put(specific, level);
@@ -288,18 +336,19 @@ public class EnchantUtils {
     }
 
     @NotNull
-    public static <T extends CustomEnchantment> Map<ItemStack, Map<T, Integer>> getAll(@NotNull Player player, @NotNull EnchantHolder<T> holder) {
-        Map<ItemStack, Map<T, Integer>> map = new HashMap<>();
+    public static List<EnchantedItem<?>> getAll(@NotNull Player player, @NotNull EnchantHolder<?> holder) {
+        List<EnchantedItem<?>> items = new ArrayList<>();
 
         for (ItemStack itemStack : player.getInventory().getContents()) {
             if (itemStack == null || itemStack.getType().isAir()) continue;
 
-            getCustomEnchantments(itemStack, holder).forEach((enchant, level) -> {
-                map.computeIfAbsent(itemStack, k -> new LinkedHashMap<>()).put(enchant, level);
-            });
+            EnchantedItem<?> enchantedItem = getEnchantedItem(itemStack);
+            if (enchantedItem == null || !holder.matches(enchantedItem)) continue;
+
+            items.add(enchantedItem);
         }
 
-        return map;
+        return items;
     }
 
     @NotNull
@@ -324,18 +373,26 @@ public class EnchantUtils {
         PDCUtil.set(arrow, enchant.getBukkitEnchantment().getKey(), level);
     }
 
-    @NotNull
-    public static <T extends CustomEnchantment> Map<T, Integer> getArrowEnchants(@NotNull AbstractArrow arrow, @NotNull EnchantHolder<T> holder) {
-        Map<T, Integer> map = new HashMap<>();
+    @Nullable
+    public static EnchantedItem<CustomEnchantment> getArrowEnchants(@NotNull AbstractArrow arrow, @NotNull ItemStack weapon, @NotNull EnchantHolder<?> holder) {
+        List<CustomEnchantment> customs = null;
+        List<Integer> levels = null;
 
-        holder.getEnchants().forEach(enchant -> {
+        for (CustomEnchantment enchant : holder.getEnchants()) {
             int level = PDCUtil.getInt(arrow, enchant.getBukkitEnchantment().getKey()).orElse(-1);
-            if (level <= 0) return;
+            if (level <= 0) continue;
 
-            map.put(enchant, level);
-        });
+            if (customs == null) {
+                customs = new ArrayList<>();
+                levels = new ArrayList<>();
+            }
+            customs.add(enchant);
+            levels.add(level);
+        }
+        if (customs == null) return null;
 
-        return map;
+        int[] levelArray = levels.stream().mapToInt(Integer::intValue).toArray();
+        return new EnchantedItem<>(weapon, customs.toArray(new CustomEnchantment[0]), levelArray, holder.getMask());
     }
 
     public static void setSpawnReason(@NotNull Entity entity, @NotNull CreatureSpawnEvent.SpawnReason reason) {